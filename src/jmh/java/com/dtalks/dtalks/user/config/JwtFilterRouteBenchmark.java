@@ -0,0 +1,77 @@
+package com.dtalks.dtalks.user.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static com.dtalks.dtalks.user.config.JwtAuthenticationFilter.*;
+
+/**
+ * JwtAuthenticationFilter.shouldNotFilter 의 기존 방식(요청마다 AntPathMatcher 생성)과
+ * 미리 컴파일된 JwtFilterRouteTable 을 같은 요청 목록으로 비교한다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtFilterRouteBenchmark {
+
+    private static final String[][] REQUESTS = {
+            {"POST", "/sign-in/google"},
+            {"POST", "/sign-up"},
+            {"POST", "/token/refresh"},
+            {"GET", "/post/all"},
+            {"GET", "/post/123"},
+            {"GET", "/post/check/recommend/123"},
+            {"GET", "/questions/search"},
+            {"GET", "/announcements/all"},
+            {"GET", "/news"},
+            {"GET", "/users/userid"},
+            {"GET", "/notifications"},
+            {"GET", "/study-rooms/12"},
+            {"POST", "/post"},
+            {"PUT", "/comment/7"},
+            {"DELETE", "/questions/3"},
+    };
+
+    @Benchmark
+    public void antPathMatcherPerRequest(Blackhole blackhole) {
+        for (String[] request : REQUESTS) {
+            blackhole.consume(legacyShouldNotFilter(request[0], request[1]));
+        }
+    }
+
+    @Benchmark
+    public void precompiledRouteTable(Blackhole blackhole) {
+        for (String[] request : REQUESTS) {
+            blackhole.consume(ROUTE_TABLE.shouldNotFilter(request[0], request[1]));
+        }
+    }
+
+    // 변경 전 JwtAuthenticationFilter.shouldNotFilter 와 같은 구현
+    private static boolean legacyShouldNotFilter(String method, String path) {
+        if (Arrays.stream(SHOULD_NOT_FILTER_URI_ALL_LIST)
+                .anyMatch(e -> new AntPathMatcher().match(e, path))) {
+            return true;
+        } else {
+            if (method.equals("GET") &&
+                    Arrays.stream(SHOULD_FILTER_URI_GET_LIST).noneMatch(e -> new AntPathMatcher().match(e, path))) {
+                return Arrays.stream(SHOULD_NOT_FILTER_URI_GET_LIST)
+                        .anyMatch(e -> new AntPathMatcher().match(e, path));
+            }
+        }
+        return false;
+    }
+
+    @Setup
+    public void verifySameDecisions() {
+        for (String[] request : REQUESTS) {
+            if (legacyShouldNotFilter(request[0], request[1]) != ROUTE_TABLE.shouldNotFilter(request[0], request[1])) {
+                throw new IllegalStateException("결과가 다릅니다: " + request[0] + " " + request[1]);
+            }
+        }
+    }
+}
@@ -4,14 +4,15 @@ import com.dtalks.dtalks.admin.announcement.dto.AnnounceDto;
 import com.dtalks.dtalks.admin.announcement.dto.AnnouncementResponseDto;
 import com.dtalks.dtalks.admin.announcement.service.AnnouncementService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -24,10 +25,13 @@ public class AnnouncementController {
         return ResponseEntity.ok(announcementService.searchById(id));
     }
 
-    @Operation(summary = "모든 공지문 조회")
+    @Operation(summary = "모든 공지문 조회", description = "AnnouncementResponseDto 페이지 반환", responses = {
+            @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 와 같아 바뀐 공지문이 없을 때")
+    })
     @GetMapping("/announcements/all")
-    public ResponseEntity<Page<AnnouncementResponseDto>> searchAll(@PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
-        return ResponseEntity.ok(announcementService.searchAllAnnouncement(pageable));
+    public ResponseEntity<byte[]> searchAll(@PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+                                            WebRequest webRequest) {
+        return announcementService.searchAllAnnouncementJson(pageable).toResponse(webRequest);
     }
 
     @Operation(summary = "공지문 작성")
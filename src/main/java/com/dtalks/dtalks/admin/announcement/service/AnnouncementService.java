@@ -2,15 +2,19 @@ package com.dtalks.dtalks.admin.announcement.service;
 
 import com.dtalks.dtalks.admin.announcement.dto.AnnounceDto;
 import com.dtalks.dtalks.admin.announcement.dto.AnnouncementResponseDto;
+import com.dtalks.dtalks.base.dto.CachedJson;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface AnnouncementService {
+    String CACHE_NAME = "announcements";
 
     AnnouncementResponseDto searchById(Long id);
 
     Page<AnnouncementResponseDto> searchAllAnnouncement(Pageable pageable);
 
+    CachedJson searchAllAnnouncementJson(Pageable pageable);
+
     Long createAnnouncement(AnnounceDto announceDto);
 
     Long updateAnnouncement(AnnounceDto announceDto, Long id);
@@ -4,10 +4,12 @@ import com.dtalks.dtalks.admin.announcement.dto.AnnounceDto;
 import com.dtalks.dtalks.admin.announcement.dto.AnnouncementResponseDto;
 import com.dtalks.dtalks.admin.announcement.entity.Announcement;
 import com.dtalks.dtalks.admin.announcement.repository.AnnouncementRepository;
+import com.dtalks.dtalks.base.component.JsonResponseCache;
+import com.dtalks.dtalks.base.dto.CachedJson;
 import com.dtalks.dtalks.exception.ErrorCode;
 import com.dtalks.dtalks.exception.exception.CustomException;
-import com.dtalks.dtalks.user.Util.SecurityUtil;
 import com.dtalks.dtalks.user.entity.User;
+import com.dtalks.dtalks.user.service.CurrentUserProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,6 +20,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AnnouncementServiceImpl implements AnnouncementService {
     private final AnnouncementRepository announcementRepository;
+    private final JsonResponseCache jsonResponseCache;
+    private final CurrentUserProvider currentUserProvider;
 
     @Override
     @Transactional
@@ -35,25 +39,35 @@ public class AnnouncementServiceImpl implements AnnouncementService {
         return announcementPage.map(AnnouncementResponseDto::toDto);
     }
 
+    // 캐시에 있으면 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회한다. 목록의 조회수는 캐시 TTL 동안 갱신되지 않는다.
+    @Override
+    public CachedJson searchAllAnnouncementJson(Pageable pageable) {
+        String key = pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+        return jsonResponseCache.get(CACHE_NAME, key,
+                () -> announcementRepository.findAll(pageable).map(AnnouncementResponseDto::toDto));
+    }
+
     @Override
     @Transactional
     public Long createAnnouncement(AnnounceDto announceDto) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         checkAdminPermission(user);
 
         Announcement announcement = Announcement.toEntity(announceDto, user);
         announcementRepository.save(announcement);
+        jsonResponseCache.invalidate(CACHE_NAME);
         return announcement.getId();
     }
 
     @Override
     @Transactional
     public Long updateAnnouncement(AnnounceDto announceDto, Long id) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         checkAdminPermission(user);
 
         Announcement announcement = findAnnouncement(id);
         announcement.update(announceDto.getTitle(), announceDto.getContent());
+        jsonResponseCache.invalidate(CACHE_NAME);
 
         return announcement.getId();
     }
@@ -62,10 +76,11 @@ public class AnnouncementServiceImpl implements AnnouncementService {
     @Transactional
     public void deleteAnnouncement(Long id) {
         Announcement announcement = findAnnouncement(id);
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         checkAdminPermission(user);
 
         announcementRepository.delete(announcement);
+        jsonResponseCache.invalidate(CACHE_NAME);
     }
 
     @Transactional(readOnly = true)
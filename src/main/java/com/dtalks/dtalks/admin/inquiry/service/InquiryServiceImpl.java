@@ -6,8 +6,8 @@ import com.dtalks.dtalks.admin.inquiry.entity.Inquiry;
 import com.dtalks.dtalks.admin.inquiry.repository.InquiryRepository;
 import com.dtalks.dtalks.exception.ErrorCode;
 import com.dtalks.dtalks.exception.exception.CustomException;
-import com.dtalks.dtalks.user.Util.SecurityUtil;
 import com.dtalks.dtalks.user.entity.User;
+import com.dtalks.dtalks.user.service.CurrentUserProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class InquiryServiceImpl implements InquiryService {
 
     private final InquiryRepository inquiryRepository;
+    private final CurrentUserProvider currentUserProvider;
 
     @Override
     @Transactional(readOnly = true)
@@ -39,7 +40,7 @@ public class InquiryServiceImpl implements InquiryService {
     @Override
     @Transactional
     public Long createInquiry(InquiryDto inquiryDto) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         Inquiry inquiry = Inquiry.toEntity(inquiryDto, user);
         inquiryRepository.save(inquiry);
 
@@ -49,7 +50,7 @@ public class InquiryServiceImpl implements InquiryService {
     @Override
     @Transactional
     public Long updateInquiry(InquiryDto inquiryDto, Long id) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         String userid = user.getUserid();
 
         Inquiry inquiry = findInquiry(id);
@@ -64,7 +65,7 @@ public class InquiryServiceImpl implements InquiryService {
     @Override
     @Transactional
     public void deleteInquiry(Long id) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         String userid = user.getUserid();
 
         Inquiry inquiry = findInquiry(id);
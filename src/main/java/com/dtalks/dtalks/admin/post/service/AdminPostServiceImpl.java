@@ -3,6 +3,7 @@ package com.dtalks.dtalks.admin.post.service;
 import com.dtalks.dtalks.admin.post.dto.AdminPostDto;
 import com.dtalks.dtalks.board.post.entity.Post;
 import com.dtalks.dtalks.board.post.repository.PostRepository;
+import com.dtalks.dtalks.board.post.service.BestPostLeaderboard;
 import com.dtalks.dtalks.exception.ErrorCode;
 import com.dtalks.dtalks.exception.exception.CustomException;
 import com.dtalks.dtalks.notification.dto.NotificationRequestDto;
@@ -10,6 +11,8 @@ import com.dtalks.dtalks.notification.enums.NotificationType;
 import com.dtalks.dtalks.report.entity.ReportedPost;
 import com.dtalks.dtalks.report.enums.ResultType;
 import com.dtalks.dtalks.report.repository.ReportedPostRepository;
+import com.dtalks.dtalks.search.enums.SearchTarget;
+import com.dtalks.dtalks.search.service.SearchIndexService;
 import com.dtalks.dtalks.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -27,6 +30,8 @@ public class AdminPostServiceImpl implements AdminPostService {
 
     private final PostRepository postRepository;
     private final ReportedPostRepository reportedPostRepository;
+    private final SearchIndexService searchIndexService;
+    private final BestPostLeaderboard bestPostLeaderboard;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final MessageSource messageSource;
 
@@ -59,6 +64,8 @@ public class AdminPostServiceImpl implements AdminPostService {
 
         User user = post.getUser();
         post.forbid();
+        searchIndexService.remove(SearchTarget.POST, post.getId());
+        bestPostLeaderboard.remove(post.getId());
         if (user.getUserid() != null) {
             applicationEventPublisher.publishEvent(NotificationRequestDto.toDto(null, null, user, NotificationType.POST_FORBIDDEN,
                     messageSource.getMessage("notification.admin.post.forbidden", new Object[]{post.getTitle()}, null)));
@@ -75,6 +82,8 @@ public class AdminPostServiceImpl implements AdminPostService {
 
         User user = post.getUser();
         post.restore();
+        searchIndexService.index(SearchTarget.POST, post.getId(), post.getTitle(), post.getContent());
+        bestPostLeaderboard.updateRecommendCount(post.getId(), post.getCreateDate(), post.getRecommendCount());
         if (user.getUserid() != null) {
             applicationEventPublisher.publishEvent(NotificationRequestDto.toDto(null, null, user, NotificationType.POST_RESTORED,
                     messageSource.getMessage("notification.admin.post.restore", new Object[]{post.getTitle()}, null)));
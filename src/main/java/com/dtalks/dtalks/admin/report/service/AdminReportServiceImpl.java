@@ -5,6 +5,7 @@ import com.dtalks.dtalks.admin.report.dto.ReportedPostDto;
 import com.dtalks.dtalks.admin.report.dto.ReportedUserDto;
 import com.dtalks.dtalks.admin.report.enums.DType;
 import com.dtalks.dtalks.board.post.entity.Post;
+import com.dtalks.dtalks.board.post.service.BestPostLeaderboard;
 import com.dtalks.dtalks.exception.ErrorCode;
 import com.dtalks.dtalks.exception.exception.CustomException;
 import com.dtalks.dtalks.notification.dto.NotificationRequestDto;
@@ -15,6 +16,8 @@ import com.dtalks.dtalks.report.enums.ResultType;
 import com.dtalks.dtalks.report.repository.CustomReportRepository;
 import com.dtalks.dtalks.report.repository.ReportedPostRepository;
 import com.dtalks.dtalks.report.repository.ReportedUserRepository;
+import com.dtalks.dtalks.search.enums.SearchTarget;
+import com.dtalks.dtalks.search.service.SearchIndexService;
 import com.dtalks.dtalks.user.entity.User;
 import com.dtalks.dtalks.user.enums.ActiveStatus;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +38,8 @@ public class AdminReportServiceImpl implements AdminReportService {
     private final CustomReportRepository customReportRepository;
     private final ReportedUserRepository reportedUserRepository;
     private final ReportedPostRepository reportedPostRepository;
+    private final SearchIndexService searchIndexService;
+    private final BestPostLeaderboard bestPostLeaderboard;
 
     private final ApplicationEventPublisher applicationEventPublisher;
     private final MessageSource messageSource;
@@ -127,6 +132,8 @@ public class AdminReportServiceImpl implements AdminReportService {
 
         if (resultType.equals(ResultType.FORBIDDEN)) {
             post.forbid();
+            searchIndexService.remove(SearchTarget.POST, post.getId());
+            bestPostLeaderboard.remove(post.getId());
             applicationEventPublisher.publishEvent(NotificationRequestDto.toDto(null, null, post.getUser(),
                     NotificationType.REPORTED_RESULT, messageSource.getMessage("notification.reported.result.forbidden", new Object[]{post.getTitle()}, null)));
         }
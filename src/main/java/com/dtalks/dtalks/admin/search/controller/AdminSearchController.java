@@ -0,0 +1,30 @@
+package com.dtalks.dtalks.admin.search.controller;
+
+import com.dtalks.dtalks.search.enums.SearchTarget;
+import com.dtalks.dtalks.search.service.SearchIndexService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/search")
+public class AdminSearchController {
+    private final SearchIndexService searchIndexService;
+
+    @Operation(summary = "검색 색인 재생성 (target 없으면 게시글, 질문글, 스터디룸 전체)",
+            description = "색인된 문서 수를 반환한다. target = POST, QUESTION, STUDY_ROOM")
+    @PostMapping("/rebuild")
+    public ResponseEntity<Integer> rebuild(@RequestParam(required = false) SearchTarget target) {
+        if (target != null) {
+            return ResponseEntity.ok(searchIndexService.rebuild(target));
+        }
+
+        int count = 0;
+        for (SearchTarget searchTarget : SearchTarget.values()) {
+            count += searchIndexService.rebuild(searchTarget);
+        }
+        return ResponseEntity.ok(count);
+    }
+}
@@ -13,6 +13,7 @@ import com.dtalks.dtalks.report.repository.ReportedUserRepository;
 import com.dtalks.dtalks.user.entity.User;
 import com.dtalks.dtalks.user.enums.ActiveStatus;
 import com.dtalks.dtalks.user.repository.UserRepository;
+import com.dtalks.dtalks.user.service.UserPrincipalCache;
 import jakarta.mail.Message;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.InternetAddress;
@@ -42,6 +43,7 @@ public class UserManageServiceImpl implements UserManageService {
     private final PasswordEncoder passwordEncoder;
     private final JavaMailSender javaMailSender;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -62,6 +64,7 @@ public class UserManageServiceImpl implements UserManageService {
         User user = userRepository.findById(id).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_ERROR, "사용자를 찾을 수 없습니다."));
         user.updateNickname(dto.getNickname());
         user.updateEmail(dto.getEmail());
+        userPrincipalCache.evict(user.getId());
 
         return UserManageDto.toDto(user);
     }
@@ -88,6 +91,7 @@ public class UserManageServiceImpl implements UserManageService {
         }
 
         user.updateStatus(type);
+        userPrincipalCache.evict(user.getId());
         List<ReportedUser> reportList = reportedUserRepository.findByProcessedFalseAndReportedUserId(user.getId());
         if (!reportList.isEmpty()) {
             for (Report report : reportList) {
@@ -116,6 +120,7 @@ public class UserManageServiceImpl implements UserManageService {
             throw new CustomException(ErrorCode.VALIDATION_ERROR, "계정이 정지 상태가 아닙니다.");
         }
         user.setStatus(ActiveStatus.ACTIVE);
+        userPrincipalCache.evict(user.getId());
         applicationEventPublisher.publishEvent(NotificationRequestDto.toDto(null, null, user,
                 NotificationType.ACCOUNT_UNSUSPEND, "관리자에 의해 계정 정지가 해제되었습니다. 활동이 가능합니다."));
     }
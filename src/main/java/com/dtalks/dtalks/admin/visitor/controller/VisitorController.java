@@ -1,5 +1,6 @@
 package com.dtalks.dtalks.admin.visitor.controller;
 
+import com.dtalks.dtalks.admin.visitor.enums.VisitorPeriod;
 import com.dtalks.dtalks.admin.visitor.service.VisitorService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,7 +18,7 @@ import java.util.Map;
 public class VisitorController {
     private final VisitorService visitorService;
 
-    @Operation(summary = "특정 기간 일일 방문자수 조회", parameters = {
+    @Operation(summary = "특정 기간 일일 방문자수 조회 (날짜순)", parameters = {
             @Parameter(name = "startDate", description = "조회 시작 날짜 0000-00-00 형태"),
             @Parameter(name = "endDate", description = "조회 끝 날짜 0000-00-00 형태")
     })
@@ -30,6 +31,20 @@ public class VisitorController {
         return ResponseEntity.ok(dailyCounts);
     }
 
+    @Operation(summary = "특정 기간 주/월 단위 순 방문자수 조회", description = "기간 시작일(주는 월요일, 달은 1일)을 key 로 날짜순 반환. " +
+            "같은 사람이 여러 날 방문해도 한 번만 센다. 집계가 없는 기간은 일별 방문자수의 합으로 채운다.", parameters = {
+            @Parameter(name = "period", description = "집계 단위 (WEEK / MONTH)"),
+            @Parameter(name = "startDate", description = "조회 시작 날짜 0000-00-00 형태"),
+            @Parameter(name = "endDate", description = "조회 끝 날짜 0000-00-00 형태")
+    })
+    @GetMapping("/admin/visitors/rollup")
+    public ResponseEntity<Map<LocalDate, Integer>> getVisitorRollups(
+            @RequestParam VisitorPeriod period,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(visitorService.getVisitorRollups(period, startDate, endDate));
+    }
+
     @Operation(summary = "일일 방문자수 증가, 같은 ip는 해당 날짜 최초방문시에만 count 증가")
     @PostMapping("/visitors/increase")
     public ResponseEntity<Void> increaseVisitorCount(HttpServletRequest request) {
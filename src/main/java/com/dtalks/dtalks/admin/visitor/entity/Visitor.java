@@ -7,11 +7,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
 
 @Entity
 @Getter
+@Table(indexes = @Index(name = "idx_visitor_date", columnList = "date"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -23,11 +22,6 @@ public class Visitor {
     @Column(nullable = false)
     private LocalDate date;
 
-    @ElementCollection
-    @CollectionTable(name = "visitor_ip_addresses", joinColumns = @JoinColumn(name = "visitor_id"))
-    @Column(name = "ip_address")
-    private List<String> ipAddresses;
-
     @Column(nullable = false)
     private int count;
 
@@ -43,11 +37,4 @@ public class Visitor {
         this.date = today;
     }
 
-    public void addIpAddress(String ipAddress) {
-        if (ipAddresses == null) {
-            ipAddresses = new ArrayList<>();
-        }
-        ipAddresses.add(ipAddress);
-    }
-
 }
@@ -0,0 +1,42 @@
+package com.dtalks.dtalks.admin.visitor.entity;
+
+import com.dtalks.dtalks.admin.visitor.enums.VisitorPeriod;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 주/월 단위 순 방문자 수. 기간 안의 일별 HyperLogLog 를 합친 추정값이라 일별 방문자 수의 합과 다르다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_visitor_rollup_period", columnNames = {"period", "period_start"}))
+public class VisitorRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private VisitorPeriod period;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(nullable = false)
+    private int count;
+
+    public VisitorRollup(VisitorPeriod period, LocalDate periodStart, int count) {
+        this.period = period;
+        this.periodStart = periodStart;
+        this.count = count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,33 @@
+package com.dtalks.dtalks.admin.visitor.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+public enum VisitorPeriod {
+    WEEK {
+        @Override
+        public LocalDate startOf(LocalDate date) {
+            return date.with(DayOfWeek.MONDAY);
+        }
+
+        @Override
+        public LocalDate next(LocalDate periodStart) {
+            return periodStart.plusWeeks(1);
+        }
+    },
+    MONTH {
+        @Override
+        public LocalDate startOf(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDate next(LocalDate periodStart) {
+            return periodStart.plusMonths(1);
+        }
+    };
+
+    public abstract LocalDate startOf(LocalDate date);
+
+    public abstract LocalDate next(LocalDate periodStart);
+}
@@ -0,0 +1,15 @@
+package com.dtalks.dtalks.admin.visitor.repository;
+
+import com.dtalks.dtalks.admin.visitor.entity.VisitorRollup;
+import com.dtalks.dtalks.admin.visitor.enums.VisitorPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface VisitorRollupRepository extends JpaRepository<VisitorRollup, Long> {
+    Optional<VisitorRollup> findByPeriodAndPeriodStart(VisitorPeriod period, LocalDate periodStart);
+
+    List<VisitorRollup> findByPeriodAndPeriodStartBetweenOrderByPeriodStart(VisitorPeriod period, LocalDate start, LocalDate end);
+}
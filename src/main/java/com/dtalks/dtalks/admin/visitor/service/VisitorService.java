@@ -1,5 +1,6 @@
 package com.dtalks.dtalks.admin.visitor.service;
 
+import com.dtalks.dtalks.admin.visitor.enums.VisitorPeriod;
 import jakarta.servlet.http.HttpServletRequest;
 
 import java.time.LocalDate;
@@ -9,5 +10,7 @@ public interface VisitorService {
 
     Map<LocalDate, Integer> getDailyVisitorCounts(LocalDate startDate, LocalDate endDate);
 
+    Map<LocalDate, Integer> getVisitorRollups(VisitorPeriod period, LocalDate startDate, LocalDate endDate);
+
     void increaseVisitorCount(HttpServletRequest request);
 }
@@ -1,101 +1,264 @@
 package com.dtalks.dtalks.admin.visitor.service;
 
 import com.dtalks.dtalks.admin.visitor.entity.Visitor;
+import com.dtalks.dtalks.admin.visitor.entity.VisitorRollup;
+import com.dtalks.dtalks.admin.visitor.enums.VisitorPeriod;
 import com.dtalks.dtalks.admin.visitor.repository.VisitorRepository;
+import com.dtalks.dtalks.admin.visitor.repository.VisitorRollupRepository;
 import com.dtalks.dtalks.exception.ErrorCode;
 import com.dtalks.dtalks.exception.exception.CustomException;
-import com.dtalks.dtalks.user.Util.SecurityUtil;
 import com.dtalks.dtalks.user.entity.User;
+import com.dtalks.dtalks.user.service.CurrentUserProvider;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.regex.Pattern;
 
+/**
+ * 일일 방문자 수는 날짜별 Redis HyperLogLog(visitor:hll:{date})에 IP 를 추가해 근사치로 센다. (표준 오차 약 0.81%)
+ * 모든 서버가 같은 키에 추가하므로 따로 합칠 필요가 없고, 주기적으로 추정값을 visitor 테이블에 저장한다.
+ * 주/월 순 방문자 수는 기간 안의 일별 sketch 를 합친 추정값을 visitor_rollup 테이블에 저장한다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class VisitorServiceImpl implements VisitorService{
+    private static final String SKETCH_KEY_PREFIX = "visitor:hll:";
+    private static final String FLUSH_LOCK_KEY = "visitor:flush:lock";
+    // 월 단위 집계에서 한 달치 일별 sketch 를 합쳐야 하므로 한 달 이상 보관한다.
+    private static final Duration SKETCH_TTL = Duration.ofDays(35);
+    private static final int MAX_RANGE_YEARS = 10;
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+    private static final Pattern IPV4_PATTERN = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}");
+
     private final VisitorRepository visitorRepository;
+    private final VisitorRollupRepository visitorRollupRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CurrentUserProvider currentUserProvider;
+    // 지난 날짜의 방문자 수는 바뀌지 않으므로 조회 결과를 캐싱한다.
+    private final Cache<LocalDate, Integer> closedDayCounts = Caffeine.newBuilder().maximumSize(4000).build();
 
     @Override
+    @Transactional(readOnly = true)
     public Map<LocalDate, Integer> getDailyVisitorCounts(LocalDate startDate, LocalDate endDate) {
-        User user = SecurityUtil.getUser();
-        if (!user.isAdmin()) {
-            throw new CustomException(ErrorCode.PERMISSION_NOT_GRANTED_ERROR, "관리자 권한이 아닙니다. ");
+        checkAdminAndRange(startDate, endDate);
+
+        LocalDate today = LocalDate.now();
+        // 어제 값은 자정 직후 flush 로 바뀔 수 있으므로 그제까지만 캐싱한다.
+        LocalDate closedUntil = today.minusDays(2);
+        Map<LocalDate, Integer> stored = new HashMap<>();
+        LocalDate queryStart = null;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            Integer cached = date.isAfter(closedUntil) ? null : closedDayCounts.getIfPresent(date);
+            if (cached != null) {
+                stored.put(date, cached);
+            } else if (queryStart == null) {
+                queryStart = date;
+            }
         }
 
-        Map<LocalDate, Integer> dailyCounts = new HashMap<>();
-        LocalDate currentDate = startDate;
+        if (queryStart != null) {
+            for (Visitor visitor : visitorRepository.findByDateBetweenOrderByDate(queryStart, endDate)) {
+                stored.merge(visitor.getDate(), visitor.getCount(), Math::max);
+            }
+            for (LocalDate date = queryStart; !date.isAfter(endDate) && !date.isAfter(closedUntil); date = date.plusDays(1)) {
+                closedDayCounts.put(date, stored.getOrDefault(date, 0));
+            }
+        }
+
+        Map<LocalDate, Integer> dailyCounts = new LinkedHashMap<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            dailyCounts.put(date, stored.getOrDefault(date, 0));
+        }
 
-        while (!currentDate.isAfter(endDate)) {
-            int count = getVisitorCountForDate(currentDate);
-            dailyCounts.put(currentDate, count);
-            currentDate = currentDate.plusDays(1);
+        // 오늘 값은 아직 저장되지 않은 방문자까지 포함되도록 sketch 에서 바로 읽는다.
+        if (dailyCounts.containsKey(today)) {
+            dailyCounts.put(today, Math.max(dailyCounts.get(today), countSketch(today)));
         }
 
         return dailyCounts;
     }
 
     @Override
-    @Transactional
-    public void increaseVisitorCount(HttpServletRequest request) {
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Integer> getVisitorRollups(VisitorPeriod period, LocalDate startDate, LocalDate endDate) {
+        checkAdminAndRange(startDate, endDate);
 
-        String ipAddress = getClientIpAddr(request);
-        LocalDate today = LocalDate.now();
+        LocalDate from = period.startOf(startDate);
+        LocalDate to = period.startOf(endDate);
+        Map<LocalDate, Integer> rollups = new HashMap<>();
+        for (VisitorRollup rollup : visitorRollupRepository.findByPeriodAndPeriodStartBetweenOrderByPeriodStart(period, from, to)) {
+            rollups.put(rollup.getPeriodStart(), rollup.getCount());
+        }
+
+        // 집계가 없는 기간(집계 도입 전 등)은 일별 방문자 수의 합으로 채운다.
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+        for (LocalDate periodStart = from; !periodStart.isAfter(to); periodStart = period.next(periodStart)) {
+            if (!rollups.containsKey(periodStart)) {
+                firstMissing = firstMissing == null ? periodStart : firstMissing;
+                lastMissing = periodStart;
+            }
+        }
+        Map<LocalDate, Integer> dailySums = new HashMap<>();
+        if (firstMissing != null) {
+            for (Visitor visitor : visitorRepository.findByDateBetweenOrderByDate(firstMissing, period.next(lastMissing).minusDays(1))) {
+                dailySums.merge(period.startOf(visitor.getDate()), visitor.getCount(), Integer::sum);
+            }
+        }
+
+        Map<LocalDate, Integer> counts = new LinkedHashMap<>();
+        for (LocalDate periodStart = from; !periodStart.isAfter(to); periodStart = period.next(periodStart)) {
+            Integer rollup = rollups.get(periodStart);
+            counts.put(periodStart, rollup != null ? rollup : dailySums.getOrDefault(periodStart, 0));
+        }
+        return counts;
+    }
 
-        Optional<Visitor> visitorOptional = visitorRepository.findByDate(today);
+    @Override
+    public void increaseVisitorCount(HttpServletRequest request) {
+        stringRedisTemplate.opsForHyperLogLog().add(sketchKey(LocalDate.now()), getClientIpAddr(request));
+    }
 
-        if (visitorOptional.isPresent()) {
-            Visitor visitor = visitorOptional.get();
+    /**
+     * 오늘과 어제(자정 직후 들어온 방문 반영) sketch 의 추정값을 저장한다.
+     * 여러 서버가 동시에 같은 날짜 행을 만들지 않도록 짧은 Redis 락을 잡은 서버만 저장한다.
+     */
+    @Scheduled(fixedDelayString = "${dtalks.visitor.flush-interval-ms:60000}")
+    @Transactional
+    public void flushVisitorCounts() {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, "1", FLUSH_LOCK_TTL))) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        for (LocalDate date : List.of(today.minusDays(1), today)) {
+            int count = countSketch(date);
+            if (count == 0) {
+                continue;
+            }
+            stringRedisTemplate.expire(sketchKey(date), SKETCH_TTL);
 
-            // 같은 날짜에 같은 IP 주소가 없으면 count 증가 및 IP 주소 추가
-            if (!visitor.getIpAddresses().contains(ipAddress)) {
-                visitor.addIpAddress(ipAddress);
-                visitor.increaseCount();
+            Optional<Visitor> visitorOptional = visitorRepository.findByDate(date);
+            if (visitorOptional.isPresent()) {
+                Visitor visitor = visitorOptional.get();
+                if (visitor.getCount() < count) {
+                    visitor.setCount(count);
+                }
+            } else {
+                Visitor visitor = new Visitor();
+                visitor.setDate(date);
+                visitor.setCount(count);
                 visitorRepository.save(visitor);
             }
-        } else {
-            Visitor visitor = new Visitor();
-            visitor.setDate(today);
-            visitor.addIpAddress(ipAddress);
-            visitor.setCount(1);
-            visitorRepository.save(visitor);
         }
+        flushRollups(today);
     }
 
-    private int getVisitorCountForDate(LocalDate date) {
-        Optional<Visitor> visitorOptional = visitorRepository.findByDate(date);
+    // 이번 주/달과, 어제가 속한 지난 주/달을 기간 안의 일별 sketch 합집합 추정값으로 갱신한다.
+    private void flushRollups(LocalDate today) {
+        for (VisitorPeriod period : VisitorPeriod.values()) {
+            LocalDate current = period.startOf(today);
+            LocalDate previous = period.startOf(today.minusDays(1));
+            for (LocalDate periodStart : current.equals(previous) ? List.of(current) : List.of(previous, current)) {
+                LocalDate periodEnd = period.next(periodStart).minusDays(1);
+                List<String> keys = new ArrayList<>();
+                for (LocalDate date = periodStart; !date.isAfter(periodEnd) && !date.isAfter(today); date = date.plusDays(1)) {
+                    keys.add(sketchKey(date));
+                }
+                Long estimate = stringRedisTemplate.opsForHyperLogLog().size(keys.toArray(new String[0]));
+                int count = estimate == null ? 0 : estimate.intValue();
+                if (count == 0) {
+                    continue;
+                }
 
-        return visitorOptional.map(Visitor::getCount).orElse(0);
+                visitorRollupRepository.findByPeriodAndPeriodStart(period, periodStart).ifPresentOrElse(
+                        rollup -> rollup.setCount(Math.max(rollup.getCount(), count)),
+                        () -> visitorRollupRepository.save(new VisitorRollup(period, periodStart, count)));
+            }
+        }
     }
 
-    private static String getClientIpAddr(HttpServletRequest request) {
+    private void checkAdminAndRange(LocalDate startDate, LocalDate endDate) {
+        User user = currentUserProvider.getUser();
+        if (!user.isAdmin()) {
+            throw new CustomException(ErrorCode.PERMISSION_NOT_GRANTED_ERROR, "관리자 권한이 아닙니다. ");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new CustomException(ErrorCode.VALIDATION_ERROR, "조회 시작 날짜가 끝 날짜보다 늦습니다.");
+        }
+        if (startDate.plusYears(MAX_RANGE_YEARS).isBefore(endDate)) {
+            throw new CustomException(ErrorCode.VALIDATION_ERROR, "최대 " + MAX_RANGE_YEARS + "년까지 조회할 수 있습니다.");
+        }
+    }
 
-        Set<String> headerNamesToCheck = new HashSet<>(Arrays.asList("Proxy-Client-IP", "WL-Proxy-Client-IP", "HTTP_CLIENT_IP", "HTTP_X_FORWARDED_FOR"));
-        Set<String> headerNames = new HashSet<>(Collections.list(request.getHeaderNames()));
+    private int countSketch(LocalDate date) {
+        Long count = stringRedisTemplate.opsForHyperLogLog().size(sketchKey(date));
+        return count == null ? 0 : count.intValue();
+    }
 
-        headerNames.retainAll(headerNamesToCheck);
+    private static String sketchKey(LocalDate date) {
+        return SKETCH_KEY_PREFIX + date;
+    }
 
-        String ip = null;
+    /**
+     * X-Forwarded-For 는 왼쪽 값을 클라이언트가 마음대로 넣을 수 있으므로,
+     * 요청이 내부 프록시(루프백/사설망 주소)를 거쳐 왔을 때만 오른쪽부터 읽어 내부 프록시가 아닌 첫 주소를 클라이언트 IP 로 본다.
+     */
+    private static String getClientIpAddr(HttpServletRequest request) {
+        String clientIp = request.getRemoteAddr();
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor == null || !isInternalProxy(parseIp(clientIp))) {
+            return clientIp;
+        }
 
-        for (String headerName : headerNames) {
-            String headerValue = request.getHeader(headerName);
-            if (isInvalidIp(headerValue)) {
-                ip = headerValue;
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            InetAddress address = parseIp(hop);
+            if (address == null) {
+                break;
+            }
+            clientIp = hop;
+            if (!isInternalProxy(address)) {
                 break;
             }
         }
+        return clientIp;
+    }
 
-        if (isInvalidIp(ip)) {
-            ip = request.getRemoteAddr();
+    // 호스트 이름으로 DNS 조회를 하지 않도록 IP 형태인 값만 해석한다.
+    private static InetAddress parseIp(String ip) {
+        if (ip == null || (ip.indexOf(':') < 0 && !IPV4_PATTERN.matcher(ip).matches())) {
+            return null;
+        }
+        try {
+            return InetAddress.getByName(ip);
+        } catch (UnknownHostException e) {
+            return null;
         }
-
-        return ip;
     }
 
-    private static boolean isInvalidIp(String ip) {
-        return ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip);
+    private static boolean isInternalProxy(InetAddress address) {
+        if (address == null) {
+            return false;
+        }
+        if (address.isLoopbackAddress() || address.isSiteLocalAddress() || address.isLinkLocalAddress()) {
+            return true;
+        }
+        // IPv6 사설망(fc00::/7)
+        return address instanceof Inet6Address && (address.getAddress()[0] & 0xfe) == 0xfc;
     }
 }
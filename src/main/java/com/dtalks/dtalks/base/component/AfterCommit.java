@@ -0,0 +1,27 @@
+package com.dtalks.dtalks.base.component;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 안에서 호출되면 커밋 이후에, 트랜잭션 밖이면 바로 실행한다.
+ * 롤백되면 실행되지 않으므로 캐시/카운터 갱신처럼 커밋된 값만 반영해야 하는 작업에 쓴다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
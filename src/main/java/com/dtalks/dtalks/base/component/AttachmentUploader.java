@@ -0,0 +1,121 @@
+package com.dtalks.dtalks.base.component;
+
+import com.dtalks.dtalks.base.config.AsyncConfiguration;
+import com.dtalks.dtalks.base.dto.UploadedFile;
+import com.dtalks.dtalks.base.validation.FileValidation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 게시글/질문글 첨부 이미지를 트랜잭션을 열기 전에 upload executor 에서 동시에 S3 로 올린다.
+ * 하나라도 실패하면 이미 올라간 파일을 지우고 예외를 던진다.
+ * 올린 파일을 저장하는 트랜잭션은 executeInTransaction 으로 열어, 롤백되었을 때만 파일을 지운다.
+ */
+@Slf4j
+@Component
+public class AttachmentUploader {
+
+    private final S3Uploader s3Uploader;
+    private final TaskExecutor uploadExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    public AttachmentUploader(S3Uploader s3Uploader,
+                              @Qualifier(AsyncConfiguration.UPLOAD_EXECUTOR) TaskExecutor uploadExecutor,
+                              TransactionTemplate transactionTemplate) {
+        this.s3Uploader = s3Uploader;
+        this.uploadExecutor = uploadExecutor;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // 결과는 files 와 같은 순서로 돌려준다.
+    public List<UploadedFile> uploadAll(List<MultipartFile> files, String directory) {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+        // 형식이 잘못된 파일이 있으면 아무것도 올리지 않는다.
+        for (MultipartFile file : files) {
+            FileValidation.imageValidation(file.getOriginalFilename());
+        }
+
+        List<CompletableFuture<UploadedFile>> futures = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            futures.add(CompletableFuture.supplyAsync(() -> upload(file, directory), uploadExecutor));
+        }
+
+        List<UploadedFile> uploadedFiles = new ArrayList<>(files.size());
+        RuntimeException failure = null;
+        for (CompletableFuture<UploadedFile> future : futures) {
+            try {
+                uploadedFiles.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+        if (failure != null) {
+            deleteAll(uploadedFiles);
+            throw failure;
+        }
+        return uploadedFiles;
+    }
+
+    /**
+     * 트랜잭션 안에서 action 을 실행하고, 트랜잭션이 롤백되면 올린 파일을 지운다.
+     * 커밋된 뒤의 콜백에서 난 예외로는 지우지 않도록 예외가 아닌 트랜잭션 결과(afterCompletion)를 보고 판단한다.
+     */
+    public <T> T executeInTransaction(List<UploadedFile> uploadedFiles, TransactionCallback<T> action) {
+        try {
+            return transactionTemplate.execute(status -> {
+                deleteOnRollback(uploadedFiles);
+                return action.doInTransaction(status);
+            });
+        } catch (CannotCreateTransactionException e) {
+            // 트랜잭션이 시작되지 않아 롤백 콜백도 등록되지 않았다.
+            deleteAll(uploadedFiles);
+            throw e;
+        }
+    }
+
+    public void deleteAll(List<UploadedFile> uploadedFiles) {
+        for (UploadedFile uploadedFile : uploadedFiles) {
+            try {
+                s3Uploader.deleteFile(uploadedFile.path());
+            } catch (RuntimeException e) {
+                log.error("[AttachmentUploader] - 업로드한 파일을 지우지 못했습니다. path={}", uploadedFile.path(), e);
+            }
+        }
+    }
+
+    private void deleteOnRollback(List<UploadedFile> uploadedFiles) {
+        if (uploadedFiles.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    deleteAll(uploadedFiles);
+                }
+            }
+        });
+    }
+
+    private UploadedFile upload(MultipartFile file, String directory) {
+        String path = S3Uploader.createFilePath(file.getOriginalFilename(), directory);
+        return new UploadedFile(file.getOriginalFilename(), path, s3Uploader.fileUpload(file, path));
+    }
+}
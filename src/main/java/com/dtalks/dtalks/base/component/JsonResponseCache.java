@@ -0,0 +1,82 @@
+package com.dtalks.dtalks.base.component;
+
+import com.dtalks.dtalks.base.dto.CachedJson;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 자주 바뀌지 않는 목록 응답을 JSON 바이트로 직렬화해 메모리에 보관한다.
+ * 캐시는 이름(news, announcements 등)별로 묶여 있고, 데이터가 바뀌면 커밋 이후 이름 단위로 비운다.
+ * 다른 서버의 캐시는 Redis 채널(cache:json:invalidate)로 비우며, 메세지를 놓쳐도 TTL 이 지나면 다시 조회한다.
+ */
+@Slf4j
+@Component
+public class JsonResponseCache implements MessageListener {
+
+    public static final String CHANNEL = "cache:json:invalidate";
+
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<String, CachedJson> cache;
+
+    public JsonResponseCache(ObjectMapper objectMapper,
+                             StringRedisTemplate stringRedisTemplate,
+                             @Value("${dtalks.cache.json.ttl-seconds:300}") long ttlSeconds,
+                             @Value("${dtalks.cache.json.max-entries:1000}") long maxEntries) {
+        this.objectMapper = objectMapper;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public CachedJson get(String cacheName, String key, Supplier<?> loader) {
+        return cache.get(cacheName + ":" + key, k -> serialize(loader.get()));
+    }
+
+    public void invalidate(String cacheName) {
+        Runnable action = () -> {
+            evict(cacheName);
+            try {
+                stringRedisTemplate.convertAndSend(CHANNEL, cacheName);
+            } catch (DataAccessException e) {
+                log.warn("[JsonResponseCache] - 다른 서버에 캐시 무효화를 알리지 못했습니다. cacheName={}", cacheName, e);
+            }
+        };
+        AfterCommit.run(action);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evict(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void evict(String cacheName) {
+        String prefix = cacheName + ":";
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private CachedJson serialize(Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            return new CachedJson(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화에 실패했습니다.", e);
+        }
+    }
+}
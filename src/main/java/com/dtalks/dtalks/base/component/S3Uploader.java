@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Date;
 import java.util.UUID;
 
@@ -38,8 +39,9 @@ public class S3Uploader {
         objectMetadata.setContentType(multipartFile.getContentType());
         objectMetadata.setContentLength(multipartFile.getSize());
 
-        try {
-            amazonS3Client.putObject(bucket, path, multipartFile.getInputStream(), objectMetadata);
+        // 길이를 알려 주면 SDK 가 본문을 메모리에 모으지 않고 스트림 그대로 보낸다.
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            amazonS3Client.putObject(bucket, path, inputStream, objectMetadata);
         }
         catch (IOException e) {
             throw new CustomException(ErrorCode.FILE_UPLOAD_ERROR, "파일 업로드에 실패하였습니다.");
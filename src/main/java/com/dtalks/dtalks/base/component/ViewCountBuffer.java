@@ -0,0 +1,96 @@
+package com.dtalks.dtalks.base.component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글/질문글 조회수를 메모리에 누적했다가 주기적으로 한 번에 반영하는 write-behind 버퍼.
+ * 조회 요청은 행 잠금 없이 LongAdder 만 증가시키고, 실제 UPDATE 는 flush 에서 배치로 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private static final String POST_UPDATE_SQL = "update post set view_count = view_count + ? where id = ?";
+    private static final String QUESTION_UPDATE_SQL = "update question set view_count = view_count + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, LongAdder> postViews = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> questionViews = new ConcurrentHashMap<>();
+
+    public void increasePostViewCount(Long postId) {
+        postViews.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    public void increaseQuestionViewCount(Long questionId) {
+        questionViews.computeIfAbsent(questionId, id -> new LongAdder()).increment();
+    }
+
+    public int pendingPostViewCount(Long postId) {
+        return pending(postViews, postId);
+    }
+
+    public int pendingQuestionViewCount(Long questionId) {
+        return pending(questionViews, questionId);
+    }
+
+    @Scheduled(fixedDelayString = "${dtalks.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        flush(postViews, POST_UPDATE_SQL);
+        flush(questionViews, QUESTION_UPDATE_SQL);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("[ViewCountBuffer] - 종료 전 누적된 조회수를 반영합니다.");
+        flush();
+    }
+
+    private int pending(Map<Long, LongAdder> views, Long id) {
+        LongAdder adder = views.get(id);
+        return adder == null ? 0 : adder.intValue();
+    }
+
+    private void flush(Map<Long, LongAdder> views, String sql) {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : views.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                batch.add(new Object[]{delta, entry.getKey()});
+            } else {
+                // 한동안 조회가 없던 항목은 정리한다. 제거 직후 들어온 증가분은 다시 되돌려 유실을 막는다.
+                LongAdder adder = entry.getValue();
+                if (views.remove(entry.getKey(), adder)) {
+                    long late = adder.sumThenReset();
+                    if (late > 0) {
+                        views.computeIfAbsent(entry.getKey(), id -> new LongAdder()).add(late);
+                    }
+                }
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(sql, batch);
+        } catch (RuntimeException e) {
+            log.error("[ViewCountBuffer] - 조회수 반영 실패, 다음 주기에 재시도합니다. size={}", batch.size(), e);
+            for (Object[] row : batch) {
+                views.computeIfAbsent((Long) row[1], id -> new LongAdder()).add((Long) row[0]);
+            }
+        }
+    }
+}
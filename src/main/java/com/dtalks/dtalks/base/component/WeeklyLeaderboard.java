@@ -0,0 +1,145 @@
+package com.dtalks.dtalks.base.component;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 최근 7일(7일 전 0시 이후) 작성된 글 중 추천수 상위 N 개를 메모리에 유지한다.
+ * 후보는 id/작성일/추천수만 들고 있고, 추천 변경 시 커밋 이후에 갱신된다.
+ * 상위 목록이 바뀌었을 때만 DTO 를 다시 만들어 두고, 조회는 만들어 둔 리스트를 그대로 돌려준다.
+ * 다른 서버의 변경과 기간 이동은 주기적인 resync 로 반영한다.
+ */
+public class WeeklyLeaderboard<E, D> {
+
+    private static final Comparator<Candidate> RANKING = Comparator.comparingInt(Candidate::recommendCount).reversed()
+            .thenComparing(Candidate::id, Comparator.reverseOrder());
+
+    private final int size;
+    private final int minRecommendCount;
+    private final Function<LocalDateTime, List<Object[]>> candidateLoader;
+    private final Function<Collection<Long>, List<E>> entityLoader;
+    private final Function<E, Long> idOf;
+    private final Function<E, D> toDto;
+
+    private volatile Map<Long, Candidate> candidates = new ConcurrentHashMap<>();
+    // 상위 목록이 바뀌거나 resync 될 때마다 version 이 올라가고, snapshot 은 자신이 만들어진 version 을 들고 있다.
+    private volatile Top top = new Top(1, List.of());
+    private final AtomicReference<Snapshot<D>> snapshot = new AtomicReference<>(new Snapshot<>(0, List.of()));
+
+    /**
+     * @param candidateLoader 기간 시작 이후 작성된 후보 목록 (id, createDate, recommendCount)
+     * @param entityLoader    id 목록으로 엔티티를 읽는다. 삭제되었거나 노출할 수 없는 글은 빠질 수 있다.
+     */
+    protected WeeklyLeaderboard(int size, int minRecommendCount,
+                                Function<LocalDateTime, List<Object[]>> candidateLoader,
+                                Function<Collection<Long>, List<E>> entityLoader,
+                                Function<E, Long> idOf, Function<E, D> toDto) {
+        this.size = size;
+        this.minRecommendCount = minRecommendCount;
+        this.candidateLoader = candidateLoader;
+        this.entityLoader = entityLoader;
+        this.idOf = idOf;
+        this.toDto = toDto;
+    }
+
+    /**
+     * DTO 는 락 밖에서 만들고, 더 최신 version 의 snapshot 이 이미 있으면 덮어쓰지 않는다.
+     */
+    public List<D> getTop() {
+        Top current = top;
+        Snapshot<D> cached = snapshot.get();
+        if (cached.version() >= current.version()) {
+            return cached.dtos();
+        }
+        Snapshot<D> loaded = new Snapshot<>(current.version(), loadDtos(current.ids()));
+        return snapshot.accumulateAndGet(loaded, (prev, next) -> next.version() > prev.version() ? next : prev).dtos();
+    }
+
+    public void updateRecommendCount(Long id, LocalDateTime createDate, int recommendCount) {
+        AfterCommit.run(() -> {
+            if (createDate.isBefore(windowStart())) {
+                return;
+            }
+            candidates.put(id, new Candidate(id, createDate, recommendCount));
+            refreshTop(id);
+        });
+    }
+
+    public void remove(Long id) {
+        AfterCommit.run(() -> {
+            if (candidates.remove(id) != null) {
+                refreshTop(id);
+            }
+        });
+    }
+
+    /**
+     * DB 기준으로 후보를 다시 읽는다. 기간이 지난 글이 빠지고, 조회수/댓글수 등 DTO 값도 새로 만든다.
+     */
+    @Scheduled(fixedDelayString = "${dtalks.leaderboard.resync-interval-ms:300000}")
+    public void resync() {
+        Map<Long, Candidate> loaded = new ConcurrentHashMap<>();
+        for (Object[] row : candidateLoader.apply(windowStart())) {
+            Candidate candidate = new Candidate((Long) row[0], (LocalDateTime) row[1], ((Number) row[2]).intValue());
+            loaded.put(candidate.id(), candidate);
+        }
+        synchronized (this) {
+            candidates = loaded;
+            top = new Top(top.version() + 1, computeTop());
+        }
+    }
+
+    private synchronized void refreshTop(Long changedId) {
+        List<Long> newTop = computeTop();
+        if (!newTop.equals(top.ids()) || newTop.contains(changedId)) {
+            top = new Top(top.version() + 1, newTop);
+        }
+    }
+
+    private List<Long> computeTop() {
+        LocalDateTime start = windowStart();
+        return candidates.values().stream()
+                .filter(c -> !c.createDate().isBefore(start) && c.recommendCount() >= minRecommendCount)
+                .sorted(RANKING)
+                .limit(size)
+                .map(Candidate::id)
+                .toList();
+    }
+
+    private List<D> loadDtos(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, E> entities = entityLoader.apply(ids).stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+        return ids.stream()
+                .map(entities::get)
+                .filter(Objects::nonNull)
+                .map(toDto)
+                .toList();
+    }
+
+    private static LocalDateTime windowStart() {
+        return LocalDate.now().minusDays(7).atStartOfDay();
+    }
+
+    private record Candidate(Long id, LocalDateTime createDate, int recommendCount) {
+    }
+
+    private record Top(long version, List<Long> ids) {
+    }
+
+    private record Snapshot<D>(long version, List<D> dtos) {
+    }
+}
@@ -1,26 +1,141 @@
 package com.dtalks.dtalks.base.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionHandler;
 
+/**
+ * 작업 종류별로 executor 를 나눠, 느린 크롤링이나 푸시 지연이 다른 작업을 막지 않게 한다.
+ * - push: FCM 토큰 저장 등 Redis / FCM 호출
+ * - mail: 메일 발송
+ * - upload: 게시글/질문글 첨부 이미지 S3 업로드
+ * - crawl: 뉴스 크롤링, 동시에 하나만 실행
+ * - maintenance: 정기 정리 작업, 동시에 하나만 실행
+ * dtalks.async.virtual-threads=true 이고 Java 21 이상이면 I/O 위주인 push, mail, upload 는 작업마다 가상 스레드로 실행한다.
+ */
+@Slf4j
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfiguration implements AsyncConfigurer {
 
+    public static final String PUSH_EXECUTOR = "pushExecutor";
+    public static final String MAIL_EXECUTOR = "mailExecutor";
+    public static final String UPLOAD_EXECUTOR = "uploadExecutor";
+    public static final String CRAWL_EXECUTOR = "crawlExecutor";
+    public static final String MAINTENANCE_EXECUTOR = "maintenanceExecutor";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${dtalks.async.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    @Value("${dtalks.async.push.pool-size:8}")
+    private int pushPoolSize;
+
+    @Value("${dtalks.async.push.queue-capacity:1000}")
+    private int pushQueueCapacity;
+
+    @Value("${dtalks.async.mail.pool-size:2}")
+    private int mailPoolSize;
+
+    @Value("${dtalks.async.mail.queue-capacity:200}")
+    private int mailQueueCapacity;
+
+    @Value("${dtalks.async.upload.pool-size:16}")
+    private int uploadPoolSize;
+
+    @Value("${dtalks.async.upload.queue-capacity:64}")
+    private int uploadQueueCapacity;
+
+    @Bean(name = PUSH_EXECUTOR)
+    public TaskExecutor pushExecutor() {
+        return ioExecutor(PUSH_EXECUTOR, pushPoolSize, pushQueueCapacity);
+    }
+
+    @Bean(name = MAIL_EXECUTOR)
+    public TaskExecutor mailExecutor() {
+        return ioExecutor(MAIL_EXECUTOR, mailPoolSize, mailQueueCapacity);
+    }
+
+    @Bean(name = UPLOAD_EXECUTOR)
+    public TaskExecutor uploadExecutor() {
+        return ioExecutor(UPLOAD_EXECUTOR, uploadPoolSize, uploadQueueCapacity);
+    }
+
+    @Bean(name = CRAWL_EXECUTOR)
+    public TaskExecutor crawlExecutor() {
+        ExecutorMetricsTaskDecorator decorator = new ExecutorMetricsTaskDecorator(CRAWL_EXECUTOR, meterRegistry);
+        return threadPool(CRAWL_EXECUTOR, 1, 0, decorator, decorator.discardPolicy());
+    }
+
+    @Bean(name = MAINTENANCE_EXECUTOR)
+    public TaskExecutor maintenanceExecutor() {
+        ExecutorMetricsTaskDecorator decorator = new ExecutorMetricsTaskDecorator(MAINTENANCE_EXECUTOR, meterRegistry);
+        return threadPool(MAINTENANCE_EXECUTOR, 1, 10, decorator, decorator.discardPolicy());
+    }
+
+    // 이름을 지정하지 않은 @Async 용
     @Override
     public Executor getAsyncExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         int processors = Runtime.getRuntime().availableProcessors();
-        executor.setCorePoolSize(processors);
+        ExecutorMetricsTaskDecorator decorator = new ExecutorMetricsTaskDecorator("AsyncExecutor", meterRegistry);
+        ThreadPoolTaskExecutor executor = threadPool("AsyncExecutor", processors, 50, decorator, decorator.callerRunsPolicy());
         executor.setMaxPoolSize(processors * 2);
-        executor.setQueueCapacity(50);
+        return executor;
+    }
+
+    private TaskExecutor ioExecutor(String name, int poolSize, int queueCapacity) {
+        ExecutorMetricsTaskDecorator decorator = new ExecutorMetricsTaskDecorator(name, meterRegistry);
+        if (virtualThreads) {
+            ExecutorService virtualExecutor = newVirtualThreadPerTaskExecutor();
+            if (virtualExecutor != null) {
+                log.info("[AsyncConfiguration] - {} 는 가상 스레드로 실행합니다.", name);
+                ConcurrentTaskExecutor executor = new ConcurrentTaskExecutor(virtualExecutor);
+                executor.setTaskDecorator(decorator);
+                return executor;
+            }
+        }
+        return threadPool(name, poolSize, queueCapacity, decorator, decorator.callerRunsPolicy());
+    }
+
+    private ThreadPoolTaskExecutor threadPool(String name, int poolSize, int queueCapacity,
+                                              ExecutorMetricsTaskDecorator decorator, RejectedExecutionHandler rejectedExecutionHandler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
         executor.setKeepAliveSeconds(60);
-        executor.setThreadNamePrefix("AsyncExecutor-");
+        executor.setThreadNamePrefix(name + "-");
+        executor.setTaskDecorator(decorator);
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
         executor.initialize();
+        decorator.bindQueue(executor.getThreadPoolExecutor(), meterRegistry);
         return executor;
     }
+
+    // 소스는 Java 17 기준이므로 Java 21 의 API 는 리플렉션으로 찾고, 없으면 스레드 풀을 쓴다.
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.warn("[AsyncConfiguration] - 가상 스레드를 지원하지 않는 JVM 입니다. 스레드 풀을 사용합니다.");
+            return null;
+        }
+    }
 }
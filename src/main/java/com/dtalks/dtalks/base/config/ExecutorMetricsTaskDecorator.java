@@ -0,0 +1,73 @@
+package com.dtalks.dtalks.base.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * executor 별로 작업 대기 시간(제출 -> 시작), 실행 시간, 실행 중인 작업 수, 거절 수를 기록한다.
+ * 메트릭 이름은 dtalks.executor.* 이고 name 태그로 executor 를 구분한다.
+ */
+@Slf4j
+public class ExecutorMetricsTaskDecorator implements TaskDecorator {
+
+    private final String name;
+    private final Timer waitTimer;
+    private final Timer runTimer;
+    private final Counter rejected;
+    private final AtomicInteger active = new AtomicInteger();
+
+    public ExecutorMetricsTaskDecorator(String name, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.waitTimer = Timer.builder("dtalks.executor.task.wait").tag("name", name).register(meterRegistry);
+        this.runTimer = Timer.builder("dtalks.executor.task.duration").tag("name", name).register(meterRegistry);
+        this.rejected = Counter.builder("dtalks.executor.rejected").tag("name", name).register(meterRegistry);
+        Gauge.builder("dtalks.executor.active", active, AtomicInteger::get).tag("name", name).register(meterRegistry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        long submittedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            active.incrementAndGet();
+            try {
+                runnable.run();
+            } finally {
+                active.decrementAndGet();
+                runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    public void bindQueue(ThreadPoolExecutor executor, MeterRegistry meterRegistry) {
+        Gauge.builder("dtalks.executor.queue.depth", executor, e -> e.getQueue().size()).tag("name", name).register(meterRegistry);
+    }
+
+    // 넘친 작업을 버리고 기록만 남긴다. 다음 주기에 다시 실행되는 스케줄 작업용.
+    public RejectedExecutionHandler discardPolicy() {
+        return (runnable, executor) -> {
+            rejected.increment();
+            log.warn("[{}] - 처리 중인 작업이 있어 새 작업을 버립니다.", name);
+        };
+    }
+
+    // 넘친 작업은 호출한 스레드에서 실행해 유실 없이 유입 속도를 늦춘다.
+    public RejectedExecutionHandler callerRunsPolicy() {
+        return (runnable, executor) -> {
+            rejected.increment();
+            if (!executor.isShutdown()) {
+                runnable.run();
+            }
+        };
+    }
+}
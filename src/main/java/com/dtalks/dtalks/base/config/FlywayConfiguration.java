@@ -0,0 +1,26 @@
+package com.dtalks.dtalks.base.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 엔티티 테이블과 인덱스(@Index)는 JPA(ddl-auto)가 만들고, JPA 밖의 테이블/시퀀스와 기존 데이터 보정은 db/migration 에서 관리한다.
+ * 이미 운영 중인 DB 는 버전 0 으로 baseline 을 잡아 모든 마이그레이션을 적용한다.
+ * <p>
+ * 마이그레이션은 JPA 보다 먼저 실행되므로, 새 DB 에는 아직 엔티티 테이블이 없다.
+ * 이때 건너뛴 작업도 버전은 적용된 것으로 기록되어 나중에 다시 실행되지 않는다.
+ * 그래서 버전 마이그레이션(V)에는 조건 없이 실행되는 DDL 만 두고,
+ * 엔티티 테이블에 의존하는 데이터 보정은 여러 번 실행해도 같은 결과가 나오는 repeatable 마이그레이션(R__)으로 작성한다.
+ * 새 DB 에는 보정할 데이터가 없으므로 건너뛰어도 되고, 내용(checksum)이 바뀌면 다시 실행된다.
+ */
+@Configuration
+public class FlywayConfiguration {
+
+    @Bean
+    public FlywayConfigurationCustomizer flywayConfigurationCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("0");
+    }
+}
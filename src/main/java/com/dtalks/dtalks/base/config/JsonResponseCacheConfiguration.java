@@ -0,0 +1,24 @@
+package com.dtalks.dtalks.base.config;
+
+import com.dtalks.dtalks.base.component.JsonResponseCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 다른 서버에서 보낸 JSON 응답 캐시 무효화 메세지를 받는 리스너 설정.
+ */
+@Configuration
+public class JsonResponseCacheConfiguration {
+
+    @Bean
+    public RedisMessageListenerContainer jsonResponseCacheListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            JsonResponseCache jsonResponseCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(jsonResponseCache, new ChannelTopic(JsonResponseCache.CHANNEL));
+        return container;
+    }
+}
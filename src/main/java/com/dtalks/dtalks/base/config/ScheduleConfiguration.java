@@ -1,9 +1,30 @@
 package com.dtalks.dtalks.base.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+/**
+ * 기본 스케줄러는 스레드가 1개라 느린 작업(리더보드 resync, 알림 수 동기화 등)이 도는 동안
+ * 짧은 주기의 flush(FCM, outbox, 채팅, 조회수)가 밀린다. 여러 작업이 동시에 돌 수 있도록 풀 크기를 지정한다.
+ */
 @EnableScheduling
 @Configuration
 public class ScheduleConfiguration {
+
+    @Value("${dtalks.scheduler.pool-size:4}")
+    private int poolSize;
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduler-");
+        // 종료 중인 flush 가 끊기지 않도록 진행 중인 작업을 기다린다.
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
 }
@@ -0,0 +1,25 @@
+package com.dtalks.dtalks.base.dto;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 미리 직렬화해 둔 JSON 응답 본문과 그 본문으로 만든 ETag.
+ */
+public record CachedJson(byte[] body, String etag) {
+
+    // 클라이언트가 가진 ETag 와 같으면 본문 없이 304 를 보낸다.
+    public ResponseEntity<byte[]> toResponse(WebRequest webRequest) {
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(body);
+    }
+}
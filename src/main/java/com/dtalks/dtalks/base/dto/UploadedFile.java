@@ -0,0 +1,17 @@
+package com.dtalks.dtalks.base.dto;
+
+import com.dtalks.dtalks.base.entity.Document;
+
+/**
+ * S3 에 올라간 첨부 파일. DB 에 저장할 때 Document 로 바꾼다.
+ */
+public record UploadedFile(String inputName, String path, String url) {
+
+    public Document toDocument() {
+        return Document.builder()
+                .inputName(inputName)
+                .url(url)
+                .path(path)
+                .build();
+    }
+}
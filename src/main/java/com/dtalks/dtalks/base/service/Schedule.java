@@ -1,10 +1,14 @@
 package com.dtalks.dtalks.base.service;
 
+import com.dtalks.dtalks.base.config.AsyncConfiguration;
+import com.dtalks.dtalks.board.post.repository.PostRepository;
 import com.dtalks.dtalks.notification.enums.ReadStatus;
 import com.dtalks.dtalks.notification.repository.NotificationRepository;
+import com.dtalks.dtalks.qna.question.repository.QuestionRepository;
 import com.dtalks.dtalks.user.entity.User;
 import com.dtalks.dtalks.user.enums.ActiveStatus;
 import com.dtalks.dtalks.user.repository.UserRepository;
+import com.dtalks.dtalks.user.service.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -21,10 +25,13 @@ import java.util.List;
 public class Schedule {
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final QuestionRepository questionRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Scheduled(cron = "0 0 0 1 * ?")
     @Transactional
-    @Async
+    @Async(AsyncConfiguration.MAINTENANCE_EXECUTOR)
     public void deleteNotificationSchedule() {
         log.info("[SCHEDULE] - deleteNotificationSchedule");
         notificationRepository.deleteByCreateDateLessThanAndReadStatus(LocalDateTime.now().minusMonths(1), ReadStatus.READ);
@@ -32,13 +39,26 @@ public class Schedule {
 
     @Scheduled(cron = "0 0 0 * * ?")
     @Transactional
-    @Async
+    @Async(AsyncConfiguration.MAINTENANCE_EXECUTOR)
     public void unSuspendAccount() {
         log.info("[SCHEDULE] - unSuspendAccount");
         List<User> suspendedUser = userRepository.findByStatusAndModifiedDateLessThanEqual(ActiveStatus.SUSPENSION, LocalDateTime.now().minusDays(7));
         for (User user : suspendedUser) {
             user.setStatus(ActiveStatus.ACTIVE);
+            userPrincipalCache.evict(user.getId());
         }
     }
 
+    /**
+     * 추천/즐겨찾기/댓글/답변 수는 단일 UPDATE 로 증감하므로, 실제 행 수와 어긋난 값만 주기적으로 다시 맞춘다.
+     */
+    @Scheduled(cron = "0 0 4 * * ?")
+    @Transactional
+    @Async(AsyncConfiguration.MAINTENANCE_EXECUTOR)
+    public void reconcileCounters() {
+        log.info("[SCHEDULE] - reconcileCounters");
+        int posts = postRepository.reconcileCounts();
+        int questions = questionRepository.reconcileCounts();
+        log.info("[SCHEDULE] - reconcileCounters post={}, question={}", posts, questions);
+    }
 }
@@ -46,6 +46,15 @@ public class CommentController {
         return ResponseEntity.ok(list);
     }
 
+    @Operation(summary = "특정 게시글의 댓글 페이지 조회 (최상위 댓글 기준 페이지, 답글은 childrenList 에 포함, size = 20, sort=\"id\" asc 적용)", responses = {
+            @ApiResponse(responseCode = "404", description = "게시글이 존재하지 않을 때", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+    })
+    @GetMapping("/page/post/{postId}")
+    public ResponseEntity<Page<CommentInfoDto>> searchPostCommentPage(@PathVariable Long postId,
+                                                                      @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.ASC) Pageable pageable) {
+        return ResponseEntity.ok(commentService.searchPageByPostId(postId, pageable));
+    }
+
     @Operation(summary = "특정 유저의 댓글 리스트 조회 (페이지 사용, size = 10, sort=\"id\" desc 적용)" , parameters = {
             @Parameter(name = "nickname", description = "조회할 유저의 닉네임")
     }, responses = {
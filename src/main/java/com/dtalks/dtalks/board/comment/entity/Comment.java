@@ -13,6 +13,7 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_comment_post_id_root_id", columnList = "post_id, root_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseTimeEntity {
@@ -43,6 +44,14 @@ public class Comment extends BaseTimeEntity {
     @OneToMany(mappedBy = "parent", orphanRemoval = true)
     private List<Comment> childList;
 
+    // 최상위 댓글의 id. 최상위 댓글 자신은 null
+    @Column(name = "root_id")
+    private Long rootId;
+
+    // 최상위 댓글은 0
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int depth;
+
     @Builder
     public Comment(CommentRequestDto commentRequestDto, Post post, User user) {
         this.content = commentRequestDto.getContent();
@@ -59,6 +68,8 @@ public class Comment extends BaseTimeEntity {
         this.post = post;
         this.user = user;
         this.parent = parent;
+        this.rootId = parent.getRootId() != null ? parent.getRootId() : parent.getId();
+        this.depth = parent.getDepth() + 1;
         this.removed = false;
     }
 
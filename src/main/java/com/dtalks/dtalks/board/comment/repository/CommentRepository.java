@@ -3,14 +3,21 @@ package com.dtalks.dtalks.board.comment.repository;
 import com.dtalks.dtalks.board.comment.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     boolean existsByPostId(Long postId);
+    @EntityGraph(attributePaths = {"user", "user.profileImage", "parent", "parent.user"})
     List<Comment> findByPostIdOrderByCreateDate(Long postId);
+    @EntityGraph(attributePaths = {"user", "user.profileImage"})
+    Page<Comment> findByPostIdAndParentIsNull(Long postId, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "user.profileImage", "parent", "parent.user"})
+    List<Comment> findByPostIdAndRootIdInOrderById(Long postId, Collection<Long> rootIds);
     Page<Comment> findByUserIdAndRemovedFalse(Long userId, Pageable pageable);
     List<Comment> findByUserIdAndCreateDateBetween(Long userId, LocalDateTime goe, LocalDateTime loe);
 }
@@ -11,6 +11,7 @@ import java.util.List;
 public interface CommentService {
     CommentInfoDto searchById(Long id);
     List<CommentInfoDto> searchListByPostId(Long postId);
+    Page<CommentInfoDto> searchPageByPostId(Long postId, Pageable pageable);
     Page<UserCommentDto> searchListByNickname(String nickname, Pageable pageable);
 
     void saveComment(Long postId, CommentRequestDto dto);
@@ -10,18 +10,17 @@ import com.dtalks.dtalks.board.post.repository.PostRepository;
 import com.dtalks.dtalks.exception.ErrorCode;
 import com.dtalks.dtalks.exception.exception.CustomException;
 import com.dtalks.dtalks.notification.dto.NotificationRequestDto;
-import com.dtalks.dtalks.notification.entity.Notification;
 import com.dtalks.dtalks.notification.enums.NotificationType;
-import com.dtalks.dtalks.notification.enums.ReadStatus;
-import com.dtalks.dtalks.notification.repository.NotificationRepository;
-import com.dtalks.dtalks.user.Util.SecurityUtil;
+import com.dtalks.dtalks.notification.service.NotificationService;
 import com.dtalks.dtalks.user.entity.User;
 import com.dtalks.dtalks.user.repository.UserRepository;
+import com.dtalks.dtalks.user.service.CurrentUserProvider;
 import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,10 +35,11 @@ public class CommentServiceImpl implements CommentService{
 
     private final UserRepository userRepository;
     private final PostRepository postRepository;
-    private final NotificationRepository notificationRepository;
+    private final NotificationService notificationService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     private final MessageSource messageSource;
+    private final CurrentUserProvider currentUserProvider;
 
     @Override
     @Transactional(readOnly = true)
@@ -56,29 +56,45 @@ public class CommentServiceImpl implements CommentService{
         }
 
         List<Comment> commentList = commentRepository.findByPostIdOrderByCreateDate(postId);
-        List<CommentInfoDto> commentInfoDtoList = new ArrayList<>();
-        Map<Long, CommentInfoDto> map = new HashMap<>();
-
-        commentList.stream().forEach(c -> {
-            CommentInfoDto dto = CommentInfoDto.toDto(c);
-            if (dto.getParentId() != null) {
-                Long startComment = getParentComment(c).getId();
-                map.get(startComment).getChildrenList().add(dto);
+        Map<Long, CommentInfoDto> roots = new LinkedHashMap<>();
+        List<Comment> replies = new ArrayList<>();
+        for (Comment comment : commentList) {
+            if (comment.getParent() == null) {
+                roots.put(comment.getId(), CommentInfoDto.toDto(comment));
             } else {
-                map.put(dto.getId(), dto);
-                commentInfoDtoList.add(dto);
+                replies.add(comment);
             }
-        });
+        }
+        attachReplies(roots, replies);
+        return new ArrayList<>(roots.values());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CommentInfoDto> searchPageByPostId(Long postId, Pageable pageable) {
+        if (!postRepository.existsById(postId)) {
+            throw new CustomException(ErrorCode.POST_NOT_FOUND_ERROR, "존재하지 않는 게시글입니다.");
+        }
 
-        return commentInfoDtoList;
+        Page<Comment> rootPage = commentRepository.findByPostIdAndParentIsNull(postId, pageable);
+        Map<Long, CommentInfoDto> roots = new LinkedHashMap<>();
+        for (Comment root : rootPage.getContent()) {
+            roots.put(root.getId(), CommentInfoDto.toDto(root));
+        }
+        if (!roots.isEmpty()) {
+            attachReplies(roots, commentRepository.findByPostIdAndRootIdInOrderById(postId, roots.keySet()));
+        }
+        return new PageImpl<>(new ArrayList<>(roots.values()), pageable, rootPage.getTotalElements());
     }
 
-    private Comment getParentComment(Comment comment) {
-        Comment parent = comment.getParent();
-        if (parent != null) {
-            return getParentComment(parent);
+    // 답글은 rootId 로 최상위 댓글에 바로 붙이므로 부모를 따라 올라갈 필요가 없다.
+    private void attachReplies(Map<Long, CommentInfoDto> roots, List<Comment> replies) {
+        for (Comment reply : replies) {
+            CommentInfoDto root = roots.get(reply.getRootId());
+            if (root != null) {
+                root.getChildrenList().add(CommentInfoDto.toDto(reply));
+            }
         }
-        return comment;
     }
 
     @Override
@@ -95,9 +111,9 @@ public class CommentServiceImpl implements CommentService{
     @Override
     @Transactional
     public void saveComment(Long postId, CommentRequestDto dto) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         Post post = findPost(postId);
-        post.plusCommentCount();
+        postRepository.addCommentCount(postId, 1);
 
         Comment comment = Comment.builder()
                 .commentRequestDto(dto)
@@ -115,14 +131,14 @@ public class CommentServiceImpl implements CommentService{
     @Override
     @Transactional
     public void saveReComment(Long postId, Long parentId, CommentRequestDto dto) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         Comment parentComment = findComment(parentId);
         if (postId != parentComment.getPost().getId()) {
             throw new ValidationException("부모 댓글과 자식 댓글의 게시글 번호가 일치하지 않습니다.");
         }
 
         Post post = findPost(postId);
-        post.plusCommentCount();
+        postRepository.addCommentCount(postId, 1);
 
         Comment comment = Comment.recommentBuilder()
                 .commentRequestDto(dto)
@@ -146,7 +162,7 @@ public class CommentServiceImpl implements CommentService{
     @Override
     @Transactional
     public void updateComment(Long id, CommentRequestDto dto) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
 
         Comment comment = findComment(id);
         findPost(comment.getPost().getId());
@@ -161,7 +177,7 @@ public class CommentServiceImpl implements CommentService{
     @Override
     @Transactional
     public void deleteComment(Long id) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         Comment comment = findComment(id);
         String currentUserId = user.getUserid();
         if (!comment.getUser().getUserid().equals(currentUserId)) {
@@ -169,28 +185,14 @@ public class CommentServiceImpl implements CommentService{
         }
 
         Post post = comment.getPost();
-        post.minusCommentCount();
+        postRepository.addCommentCount(post.getId(), -1);
 
         User postWriter = post.getUser();
         if (postWriter.getIsActive() && postWriter.getId() != comment.getUser().getId()) {
-            Notification notification = notificationRepository.findByRefIdAndType(comment.getId(), NotificationType.COMMENT)
-                    .orElseThrow(() -> new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND_ERROR, "해당하는 알림이 존재하지 않습니다."));
-            if (notification.getReadStatus().equals(ReadStatus.READ)) {
-                notification.readDataDeleteSetting();
-            } else {
-                notificationRepository.deleteById(notification.getId());
-            }
+            notificationService.deleteByRefIdAndType(comment.getId(), NotificationType.COMMENT);
         }
 
-        Optional<Notification> recommentNoti = notificationRepository.findByRefIdAndType(comment.getId(), NotificationType.RECOMMENT);
-        if (recommentNoti.isPresent()) {
-            Notification notification = recommentNoti.get();
-            if (notification.getReadStatus().equals(ReadStatus.READ)) {
-                notification.readDataDeleteSetting();
-            } else {
-                notificationRepository.deleteById(notification.getId());
-            }
-        }
+        notificationService.deleteByRefIdAndType(comment.getId(), NotificationType.RECOMMENT);
 
         /**
          * 삭제하려는 댓글의 자식 댓글이 있는 경우
@@ -17,6 +17,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.MediaType;
@@ -50,6 +51,16 @@ public class PostController {
         return ResponseEntity.ok(postService.searchAllPost(pageable));
     }
 
+    @Operation(summary = "모든 게시글 무한 스크롤 조회 (count 쿼리 없음, id desc)", parameters = {
+            @Parameter(name = "after", description = "이전 응답의 마지막 게시글 id, 첫 요청은 생략"),
+            @Parameter(name = "size", description = "가져올 개수 (최대 50)")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<Slice<PostDto>> searchAllByCursor(@RequestParam(required = false) Long after,
+                                                            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(postService.searchAllPostByCursor(after, Math.max(1, Math.min(size, 50))));
+    }
+
 
     @Operation(summary = "특정 유저의 게시글 조회 (페이지 사용, size = 10, sort=\"id\" desc 적용)", parameters = {
             @Parameter(name = "nickname", description = "조회할 유저의 nickname")
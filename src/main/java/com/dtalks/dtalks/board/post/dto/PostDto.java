@@ -77,4 +77,8 @@ public class PostDto {
         this.imageUrls = urls;
     }
 
+    public void viewCountSetting(Integer viewCount) {
+        this.viewCount = viewCount;
+    }
+
 }
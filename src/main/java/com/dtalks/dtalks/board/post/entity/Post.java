@@ -10,10 +10,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.List;
 
 @Entity
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseTimeEntity {
@@ -22,7 +24,7 @@ public class Post extends BaseTimeEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
     @Column(nullable = false)
@@ -73,38 +75,10 @@ public class Post extends BaseTimeEntity {
         this.content = content;
     }
 
-    public void updateViewCount() {
-        this.viewCount++;
-    }
-
     public void updateThumbnail(String thumbnailUrl) {
         this.thumbnailUrl = thumbnailUrl;
     }
 
-    public void plusCommentCount() {
-        this.commentCount++;
-    }
-
-    public void minusCommentCount() {
-        this.commentCount--;
-    }
-
-    public void plusRecommentCount() {
-        this.recommendCount++;
-    }
-
-    public void minusRecommentCount() {
-        this.recommendCount--;
-    }
-
-    public void plusFavoriteCount() {
-        this.favoriteCount++;
-    }
-
-    public void minusFavoriteCount() {
-        this.favoriteCount--;
-    }
-
     public void forbid() {
         this.forbidden = true;
     }
@@ -16,6 +16,8 @@ import java.util.List;
 
 import static com.dtalks.dtalks.board.post.entity.QPost.post;
 import static com.dtalks.dtalks.board.post.entity.QFavoritePost.favoritePost;
+import static com.dtalks.dtalks.base.entity.QDocument.document;
+import static com.dtalks.dtalks.user.entity.QUser.user;
 
 @Repository
 public class CustomPostRepository {
@@ -27,8 +29,11 @@ public class CustomPostRepository {
     }
 
     public Page<Post> searchFavoritePost(Long userId, Pageable pageable) {
-        List<Post> content = jpaQueryFactory.select(favoritePost.post)
+        List<Post> content = jpaQueryFactory.select(post)
                 .from(favoritePost)
+                .join(favoritePost.post, post)
+                .join(post.user, user).fetchJoin()
+                .leftJoin(user.profileImage, document).fetchJoin()
                 .where(userIdEq(userId))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
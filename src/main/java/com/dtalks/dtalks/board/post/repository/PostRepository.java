@@ -3,16 +3,61 @@ package com.dtalks.dtalks.board.post.repository;
 import com.dtalks.dtalks.board.post.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
+    @EntityGraph(attributePaths = {"user", "user.profileImage"})
     Page<Post> findByForbiddenFalseAndUserId(Long id, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "user.profileImage"})
     Page<Post> findByForbiddenFalseAndTitleContainingIgnoreCaseOrForbiddenFalseAndContentContainingIgnoreCase(String title, String content, Pageable pageable);
     List<Post> findByForbiddenFalseAndUserIdAndCreateDateBetween(Long userId, LocalDateTime goe, LocalDateTime loe);
-    List<Post> findTop5ByForbiddenFalseAndCreateDateGreaterThanEqualAndRecommendCountGreaterThanOrderByRecommendCountDesc(LocalDateTime goe, int cnt);
+    @EntityGraph(attributePaths = {"user", "user.profileImage"})
+    List<Post> findByForbiddenFalseAndIdIn(Collection<Long> ids);
+    @EntityGraph(attributePaths = {"user", "user.profileImage"})
     Page<Post> findByForbiddenFalse(Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "user.profileImage"})
+    Slice<Post> findByForbiddenFalseAndIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "user.profileImage"})
     Page<Post> findByForbiddenTrue(Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Post p set p.recommendCount = p.recommendCount + :delta where p.id = :id")
+    int addRecommendCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Post p set p.favoriteCount = p.favoriteCount + :delta where p.id = :id")
+    int addFavoriteCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Post p set p.commentCount = p.commentCount + :delta where p.id = :id")
+    int addCommentCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query("select p.id, p.createDate, p.recommendCount from Post p where p.forbidden = false and p.createDate >= :start and p.recommendCount > 0")
+    List<Object[]> findBestCandidates(@Param("start") LocalDateTime start);
+
+    @Query("select p.recommendCount from Post p where p.id = :id")
+    Integer findRecommendCountById(@Param("id") Long id);
+
+    @Query("select p.favoriteCount from Post p where p.id = :id")
+    Integer findFavoriteCountById(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "update post p set recommend_count = c.recommend_count, favorite_count = c.favorite_count, comment_count = c.comment_count " +
+            "from (select p2.id, " +
+            "(select count(*) from recommend_post r where r.post_id = p2.id) as recommend_count, " +
+            "(select count(*) from favorite_post f where f.post_id = p2.id) as favorite_count, " +
+            "(select count(*) from comment cm where cm.post_id = p2.id and cm.removed = false) as comment_count " +
+            "from post p2) c " +
+            "where p.id = c.id and (p.recommend_count <> c.recommend_count or p.favorite_count <> c.favorite_count or p.comment_count <> c.comment_count)",
+            nativeQuery = true)
+    int reconcileCounts();
 }
@@ -0,0 +1,19 @@
+package com.dtalks.dtalks.board.post.service;
+
+import com.dtalks.dtalks.base.component.WeeklyLeaderboard;
+import com.dtalks.dtalks.board.post.dto.PostDto;
+import com.dtalks.dtalks.board.post.entity.Post;
+import com.dtalks.dtalks.board.post.repository.PostRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이번 주 추천수 상위 5개 게시글 (추천수 1 이상, 접근 금지 글 제외)
+ */
+@Component
+public class BestPostLeaderboard extends WeeklyLeaderboard<Post, PostDto> {
+
+    public BestPostLeaderboard(PostRepository postRepository) {
+        super(5, 1, postRepository::findBestCandidates, postRepository::findByForbiddenFalseAndIdIn,
+                Post::getId, PostDto::toDto);
+    }
+}
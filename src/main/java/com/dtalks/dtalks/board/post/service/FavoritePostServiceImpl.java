@@ -8,9 +8,9 @@ import com.dtalks.dtalks.board.post.repository.FavoritePostRepository;
 import com.dtalks.dtalks.board.post.repository.PostRepository;
 import com.dtalks.dtalks.exception.ErrorCode;
 import com.dtalks.dtalks.exception.exception.*;
-import com.dtalks.dtalks.user.Util.SecurityUtil;
 import com.dtalks.dtalks.user.entity.User;
 import com.dtalks.dtalks.user.repository.UserRepository;
+import com.dtalks.dtalks.user.service.CurrentUserProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -27,14 +27,15 @@ public class FavoritePostServiceImpl implements FavoritePostService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final CustomPostRepository customPostRepository;
+    private final CurrentUserProvider currentUserProvider;
 
     @Override
     @Transactional
     public Integer favorite(Long postId) {
         Post post = findPost(postId);
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
 
-        if (user == post.getUser()) {
+        if (user.getId() == post.getUser().getId()) {
             throw new CustomException(ErrorCode.ACCEPTED_BUT_IMPOSSIBLE, "작성한 글에는 즐겨찾기가 불가능합니다.");
         }
 
@@ -45,14 +46,14 @@ public class FavoritePostServiceImpl implements FavoritePostService {
         FavoritePost favoritePost = FavoritePost.builder().post(post).user(user).build();
         favoritePostRepository.save(favoritePost);
 
-        post.plusFavoriteCount();
-        return post.getFavoriteCount();
+        postRepository.addFavoriteCount(postId, 1);
+        return postRepository.findFavoriteCountById(postId);
     }
 
     @Override
     @Transactional
     public Integer unFavorite(Long postId) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         Post post = findPost(postId);
 
         Optional<FavoritePost> optionalFavoritePost = favoritePostRepository.findByPostIdAndUserId(postId, user.getId());
@@ -63,11 +64,12 @@ public class FavoritePostServiceImpl implements FavoritePostService {
         FavoritePost favoritePost = optionalFavoritePost.get();
         favoritePostRepository.delete(favoritePost);
 
-        post.minusFavoriteCount();
-        return post.getFavoriteCount();
+        postRepository.addFavoriteCount(postId, -1);
+        return postRepository.findFavoriteCountById(postId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<PostDto> searchFavoritePostsByUser(String nickname, Pageable pageable) {
         User user = userRepository.findByNickname(nickname).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_ERROR, "존재하지 않는 사용자입니다."));
         Page<Post> posts = customPostRepository.searchFavoritePost(user.getId(), pageable);
@@ -76,7 +78,7 @@ public class FavoritePostServiceImpl implements FavoritePostService {
 
     @Override
     public boolean checkFavorite(Long postId) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         return favoritePostRepository.existsByPostIdAndUserId(postId, user.getId());
     }
 
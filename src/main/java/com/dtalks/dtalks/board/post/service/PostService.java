@@ -5,12 +5,14 @@ import com.dtalks.dtalks.board.post.dto.PostRequestDto;
 import com.dtalks.dtalks.board.post.dto.PutRequestDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 public interface PostService {
     PostDto searchById(Long id, Boolean adminPage);
     Page<PostDto> searchAllPost(Pageable pageable);
+    Slice<PostDto> searchAllPostByCursor(Long after, int size);
     Page<PostDto> searchPostsByUser(String nickname, Pageable pageable);
     Page<PostDto> searchByWord(String keyword, Pageable pageable);
 
@@ -1,9 +1,11 @@
 package com.dtalks.dtalks.board.post.service;
 
+import com.dtalks.dtalks.base.component.AttachmentUploader;
 import com.dtalks.dtalks.base.component.S3Uploader;
+import com.dtalks.dtalks.base.component.ViewCountBuffer;
+import com.dtalks.dtalks.base.dto.UploadedFile;
 import com.dtalks.dtalks.base.entity.Document;
 import com.dtalks.dtalks.base.repository.DocumentRepository;
-import com.dtalks.dtalks.base.validation.FileValidation;
 import com.dtalks.dtalks.board.comment.repository.CommentRepository;
 import com.dtalks.dtalks.board.post.dto.*;
 import com.dtalks.dtalks.board.post.entity.FavoritePost;
@@ -18,15 +20,20 @@ import com.dtalks.dtalks.board.post.repository.PostRepository;
 import com.dtalks.dtalks.exception.ErrorCode;
 import com.dtalks.dtalks.report.entity.ReportedPost;
 import com.dtalks.dtalks.report.repository.ReportedPostRepository;
+import com.dtalks.dtalks.search.enums.SearchTarget;
+import com.dtalks.dtalks.search.service.SearchIndexService;
+import com.dtalks.dtalks.search.service.SearchResults;
 import com.dtalks.dtalks.user.Util.SecurityUtil;
 import com.dtalks.dtalks.user.entity.User;
 import com.dtalks.dtalks.user.repository.UserRepository;
+import com.dtalks.dtalks.user.service.CurrentUserProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -45,17 +52,22 @@ public class PostServiceImpl implements PostService {
     private final PostImageRepository imageRepository;
     private final DocumentRepository documentRepository;
     private final S3Uploader s3Uploader;
+    private final AttachmentUploader attachmentUploader;
+    private final ViewCountBuffer viewCountBuffer;
+    private final SearchIndexService searchIndexService;
+    private final BestPostLeaderboard bestPostLeaderboard;
+    private final CurrentUserProvider currentUserProvider;
     private final String imagePath =  "posts";
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public PostDto searchById(Long id, Boolean adminPage) {
         Post post = findPost(id);
         if (adminPage == null) {
             if (post.isForbidden()) {
                 throw new CustomException(ErrorCode.ACCEPTED_BUT_FORBIDDEN_BY_ADMIN, "관리자에 의해 접근이 불가능한 게시글입니다.");
             } else {
-                post.updateViewCount();
+                viewCountBuffer.increasePostViewCount(id);
             }
         }
 
@@ -68,6 +80,7 @@ public class PostServiceImpl implements PostService {
         }
         PostDto postDto = PostDto.toDto(post);
         postDto.imageUrlsSetting(urls);
+        postDto.viewCountSetting(post.getViewCount() + viewCountBuffer.pendingPostViewCount(id));
         return postDto;
     }
 
@@ -78,6 +91,14 @@ public class PostServiceImpl implements PostService {
         return postsPage.map(PostDto::toDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<PostDto> searchAllPostByCursor(Long after, int size) {
+        Long cursor = after == null ? Long.MAX_VALUE : after;
+        Slice<Post> posts = postRepository.findByForbiddenFalseAndIdLessThanOrderByIdDesc(cursor, PageRequest.ofSize(size));
+        return posts.map(PostDto::toDto);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<PostDto> searchPostsByUser(String nickname, Pageable pageable) {
@@ -89,40 +110,30 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional(readOnly = true)
     public Page<PostDto> searchByWord(String keyword, Pageable pageable) {
-        Page<Post> posts = postRepository.findByForbiddenFalseAndTitleContainingIgnoreCaseOrForbiddenFalseAndContentContainingIgnoreCase(keyword, keyword, pageable);
-        return posts.map(PostDto::toDto);
+        Page<Long> ids = searchIndexService.search(SearchTarget.POST, keyword, pageable);
+        return SearchResults.toPage(ids, postRepository::findByForbiddenFalseAndIdIn, Post::getId, PostDto::toDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PostDto> search5BestPosts() {
-        LocalDateTime time = LocalDateTime.now().minusDays(7);
-        LocalDateTime goe = time.withHour(0).withMinute(0).withSecond(0);
-        List<Post> top5Posts =
-                postRepository.findTop5ByForbiddenFalseAndCreateDateGreaterThanEqualAndRecommendCountGreaterThanOrderByRecommendCountDesc(goe, 0);
-        return top5Posts.stream().map(PostDto::toDto).toList();
+        return bestPostLeaderboard.getTop();
     }
 
+    // 첨부 이미지는 트랜잭션 밖에서 먼저 올리고, 트랜잭션이 롤백되면 올린 파일을 지운다.
     @Override
-    @Transactional
     public Long createPost(PostRequestDto postDto) {
-        User user = SecurityUtil.getUser();
-        Post post = Post.builder().postDto(postDto).user(user).build();
-        postRepository.save(post);
+        List<UploadedFile> uploadedFiles = attachmentUploader.uploadAll(postDto.getFiles(), imagePath);
+        return attachmentUploader.executeInTransaction(uploadedFiles, status -> {
+            User user = currentUserProvider.getUser();
+            Post post = Post.builder().postDto(postDto).user(user).build();
+            postRepository.save(post);
+            searchIndexService.index(SearchTarget.POST, post.getId(), post.getTitle(), post.getContent());
 
-        List<MultipartFile> files = postDto.getFiles();
-        if (files != null){
             Long orderNum = 1L;
             boolean setThumbnail = false;
-            for (MultipartFile file : files) {
-                FileValidation.imageValidation(file.getOriginalFilename());
-                String path = S3Uploader.createFilePath(file.getOriginalFilename(), imagePath);
-
-                Document document = Document.builder()
-                        .inputName(file.getOriginalFilename())
-                        .url(s3Uploader.fileUpload(file, path))
-                        .path(path)
-                        .build();
+            for (UploadedFile uploadedFile : uploadedFiles) {
+                Document document = uploadedFile.toDocument();
                 documentRepository.save(document);
 
                 if (!setThumbnail) {
@@ -137,20 +148,39 @@ public class PostServiceImpl implements PostService {
                         .build();
                 imageRepository.save(postImage);
             }
-        }
-        return post.getId();
+            return post.getId();
+        });
     }
 
     @Override
-    @Transactional
     public Long updatePost(PutRequestDto putRequestDto, Long postId) {
-        Post post = findPost(postId);
-        String userId = post.getUser().getUserid();
-        if (!userId.equals(SecurityUtil.getUser().getUserid())) {
-            throw new CustomException(ErrorCode.PERMISSION_NOT_GRANTED_ERROR, "해당 게시글을 수정할 수 있는 권한이 없습니다.");
+        // 수정 권한이 없는 요청이 파일부터 올리지 않도록 업로드 전에 작성자를 확인한다.
+        checkWriter(findPost(postId));
+
+        List<NewImageDto> files = putRequestDto.getFiles();
+        List<UploadedFile> uploadedFiles = attachmentUploader.uploadAll(
+                files == null ? null : files.stream().map(NewImageDto::getFile).toList(), imagePath);
+
+        List<String> deletableUrls = attachmentUploader.executeInTransaction(uploadedFiles,
+                status -> updatePostAndImages(putRequestDto, postId, uploadedFiles));
+
+        // 커밋된 뒤에 더 이상 쓰지 않는 이미지를 지운다.
+        for (String url : deletableUrls) {
+            s3Uploader.deleteFile(url);
         }
 
+        return postId;
+    }
+
+    // 삭제된 기존 이미지의 S3 경로를 돌려준다.
+    private List<String> updatePostAndImages(PutRequestDto putRequestDto, Long postId, List<UploadedFile> uploadedFiles) {
+        Post post = findPost(postId);
+        checkWriter(post);
+
         post.updateTitleAndContent(putRequestDto.getTitle(), putRequestDto.getContent());
+        if (!post.isForbidden()) {
+            searchIndexService.index(SearchTarget.POST, postId, post.getTitle(), post.getContent());
+        }
 
         List<OldImageDto> imgUrls = putRequestDto.getImgUrls();
         List<NewImageDto> files = putRequestDto.getFiles();
@@ -185,26 +215,16 @@ public class PostServiceImpl implements PostService {
             }
         }
 
-        if (files != null) {
-            for (NewImageDto newImage : files) {
-                MultipartFile file = newImage.getFile();
-                FileValidation.imageValidation(file.getOriginalFilename());
-                String path = S3Uploader.createFilePath(file.getOriginalFilename(), imagePath);
+        for (int i = 0; i < uploadedFiles.size(); i++) {
+            Document document = uploadedFiles.get(i).toDocument();
+            documentRepository.save(document);
 
-                Document document = Document.builder()
-                        .inputName(file.getOriginalFilename())
-                        .url(s3Uploader.fileUpload(file, path))
-                        .path(path)
-                        .build();
-                documentRepository.save(document);
-
-                PostImage postImage = PostImage.builder()
-                        .post(post)
-                        .document(document)
-                        .orderNum(newImage.getOrderNum())
-                        .build();
-                imageRepository.save(postImage);
-            }
+            PostImage postImage = PostImage.builder()
+                    .post(post)
+                    .document(document)
+                    .orderNum(files.get(i).getOrderNum())
+                    .build();
+            imageRepository.save(postImage);
         }
 
         String thumbnail = null;
@@ -214,11 +234,7 @@ public class PostServiceImpl implements PostService {
         }
         post.updateThumbnail(thumbnail);
 
-        for (String url : deletableUrls) {
-            s3Uploader.deleteFile(url);
-        }
-
-        return postId;
+        return deletableUrls;
     }
 
     @Override
@@ -226,7 +242,7 @@ public class PostServiceImpl implements PostService {
     public void deletePost(Long postId) {
         Post post = findPost(postId);
         String userId = post.getUser().getUserid();
-        if (!userId.equals(SecurityUtil.getUser().getUserid())) {
+        if (!userId.equals(currentUserProvider.getUser().getUserid())) {
             throw new CustomException(ErrorCode.PERMISSION_NOT_GRANTED_ERROR, "해당 게시글을 삭제할 수 있는 권한이 없습니다.");
         }
 
@@ -250,6 +266,8 @@ public class PostServiceImpl implements PostService {
         }
         List<PostImage> imageList = post.getImageList();
         postRepository.delete(post);
+        searchIndexService.remove(SearchTarget.POST, postId);
+        bestPostLeaderboard.remove(postId);
 
         for (PostImage image : imageList) {
             s3Uploader.deleteFile(image.getDocument().getPath());
@@ -261,6 +279,12 @@ public class PostServiceImpl implements PostService {
         return userRepository.findByNickname(nickname).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_ERROR, "존재하지 않는 사용자입니다."));
     }
 
+    private void checkWriter(Post post) {
+        if (post.getUser().getId() != SecurityUtil.getPrincipal().getId()) {
+            throw new CustomException(ErrorCode.PERMISSION_NOT_GRANTED_ERROR, "해당 게시글을 수정할 수 있는 권한이 없습니다.");
+        }
+    }
+
     @Transactional(readOnly = true)
     private Post findPost(Long postId) {
         return postRepository.findById(postId).orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND_ERROR, "존재하지 않는 게시글입니다."));
@@ -7,12 +7,10 @@ import com.dtalks.dtalks.board.post.repository.RecommendPostRepository;
 import com.dtalks.dtalks.exception.ErrorCode;
 import com.dtalks.dtalks.exception.exception.*;
 import com.dtalks.dtalks.notification.dto.NotificationRequestDto;
-import com.dtalks.dtalks.notification.entity.Notification;
 import com.dtalks.dtalks.notification.enums.NotificationType;
-import com.dtalks.dtalks.notification.enums.ReadStatus;
-import com.dtalks.dtalks.notification.repository.NotificationRepository;
-import com.dtalks.dtalks.user.Util.SecurityUtil;
+import com.dtalks.dtalks.notification.service.NotificationService;
 import com.dtalks.dtalks.user.entity.User;
+import com.dtalks.dtalks.user.service.CurrentUserProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
@@ -27,16 +25,18 @@ public class RecommendPostServiceImpl implements RecommendPostService {
 
     private final RecommendPostRepository recommendPostRepository;
     private final PostRepository postRepository;
-    private final NotificationRepository notificationRepository;
+    private final BestPostLeaderboard bestPostLeaderboard;
+    private final NotificationService notificationService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     private final MessageSource messageSource;
+    private final CurrentUserProvider currentUserProvider;
 
     @Override
     @Transactional
     public Integer recommend(Long postId) {
         Post post = postRepository.findById(postId).orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND_ERROR, "존재하지 않는 게시글입니다."));
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
 
         User postWriter = post.getUser();
         if (user.getId() == postWriter.getId()) {
@@ -50,43 +50,41 @@ public class RecommendPostServiceImpl implements RecommendPostService {
         RecommendPost recommendPost = RecommendPost.builder().post(post).user(user).build();
         recommendPostRepository.save(recommendPost);
 
-        post.plusRecommentCount();
+        postRepository.addRecommendCount(postId, 1);
 
         if (postWriter.getIsActive()) {
             applicationEventPublisher.publishEvent(NotificationRequestDto.toDto(recommendPost.getId(), post.getId(), postWriter,
                     NotificationType.RECOMMEND_POST, messageSource.getMessage("notification.post.recommend", new Object[]{post.getTitle()}, null)));
         }
-         return post.getRecommendCount();
+        Integer recommendCount = postRepository.findRecommendCountById(postId);
+        bestPostLeaderboard.updateRecommendCount(postId, post.getCreateDate(), recommendCount);
+        return recommendCount;
     }
 
     @Override
     @Transactional
     public Integer cancelRecommend(Long postId) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
 
         RecommendPost recommendPost = recommendPostRepository.findByPostIdAndUserId(postId, user.getId())
                 .orElseThrow(() -> new CustomException(ErrorCode.FAVORITE_POST_NOT_FOUND_ERROR, "해당 게시글은 추천 상태가 아닙니다."));
         recommendPostRepository.delete(recommendPost);
 
         Post post = postRepository.findById(postId).orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND_ERROR, "존재하지 않는 게시글입니다."));
-        post.minusRecommentCount();
+        postRepository.addRecommendCount(postId, -1);
 
         if (post.getUser().getIsActive()) {
-            Notification notification = notificationRepository.findByRefIdAndType(recommendPost.getId(), NotificationType.RECOMMEND_POST)
-                    .orElseThrow(() -> new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND_ERROR, "해당하는 알림이 존재하지 않습니다."));
-            if (notification.getReadStatus().equals(ReadStatus.READ)) {
-                notification.readDataDeleteSetting();
-            } else {
-                notificationRepository.deleteById(notification.getId());
-            }
+            notificationService.deleteByRefIdAndType(recommendPost.getId(), NotificationType.RECOMMEND_POST);
         }
 
-        return post.getRecommendCount();
+        Integer recommendCount = postRepository.findRecommendCountById(postId);
+        bestPostLeaderboard.updateRecommendCount(postId, post.getCreateDate(), recommendCount);
+        return recommendCount;
     }
 
     @Override
     public boolean checkRecommend(Long postId) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         return recommendPostRepository.existsByPostIdAndUserId(postId, user.getId());
     }
 }
@@ -0,0 +1,186 @@
+package com.dtalks.dtalks.fcm;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 푸시 발송 파이프라인.
+ * 알림 저장 시 큐에 쌓인 푸시를 주기적으로 최대 500건씩 꺼내, 토큰을 한 번에 조회한 뒤 묶어서 비동기로 보낸다.
+ * 일시적인 실패는 지수 백오프 후 다시 큐에 넣고, 만료된 토큰은 삭제한다.
+ */
+@Slf4j
+@Component
+public class FCMDispatcher {
+
+    private final FCMSender fcmSender;
+    private final FCMTokenManager fcmTokenManager;
+    private final BlockingQueue<FCMPush> queue;
+    private final DelayQueue<RetryPush> retryQueue = new DelayQueue<>();
+    private final Semaphore inFlightBatches;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public FCMDispatcher(FCMSender fcmSender,
+                         FCMTokenManager fcmTokenManager,
+                         @Value("${dtalks.fcm.queue-capacity:10000}") int queueCapacity,
+                         @Value("${dtalks.fcm.batch-size:500}") int batchSize,
+                         @Value("${dtalks.fcm.max-in-flight-batches:4}") int maxInFlightBatches,
+                         @Value("${dtalks.fcm.max-attempts:4}") int maxAttempts,
+                         @Value("${dtalks.fcm.backoff-ms:1000}") long backoffMillis) {
+        this.fcmSender = fcmSender;
+        this.fcmTokenManager = fcmTokenManager;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = Math.min(batchSize, FCMSender.MAX_BATCH_SIZE);
+        this.inFlightBatches = new Semaphore(maxInFlightBatches);
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    public void enqueue(Long userId, String body) {
+        if (!queue.offer(FCMPush.of(userId, body))) {
+            log.warn("[FCMDispatcher] - 푸시 큐가 가득 차 푸시를 보내지 못했습니다. userId={}", userId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dtalks.fcm.flush-interval-ms:200}")
+    public void flush() {
+        // 백오프가 끝난 재시도 푸시를 발송 큐로 옮긴다.
+        RetryPush ready;
+        while (queue.remainingCapacity() > 0 && (ready = retryQueue.poll()) != null) {
+            queue.offer(ready.push());
+        }
+        while (!queue.isEmpty() && inFlightBatches.tryAcquire()) {
+            if (!dispatch()) {
+                inFlightBatches.release();
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("[FCMDispatcher] - 종료 전 남은 푸시 {}건을 보냅니다.", queue.size());
+        flush();
+    }
+
+    // 보낼 묶음이 있어 발송을 시작했으면 true. 세마포어는 발송이 끝날 때 반환된다.
+    private boolean dispatch() {
+        List<FCMPush> pending = new ArrayList<>(batchSize);
+        queue.drainTo(pending, batchSize);
+        if (pending.isEmpty()) {
+            return false;
+        }
+
+        List<FCMPush> batch;
+        try {
+            batch = withTokens(pending);
+        } catch (RuntimeException e) {
+            log.warn("[FCMDispatcher] - 토큰 조회 실패, 푸시 {}건을 재시도합니다.", pending.size(), e);
+            pending.forEach(this::retry);
+            inFlightBatches.release();
+            return true;
+        }
+        if (batch.isEmpty()) {
+            inFlightBatches.release();
+            return true;
+        }
+
+        CompletableFuture<List<FCMSendStatus>> result;
+        try {
+            result = fcmSender.send(batch);
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((statuses, throwable) -> {
+            try {
+                if (throwable != null) {
+                    log.warn("[FCMDispatcher] - 푸시 {}건 발송 실패, 재시도합니다.", batch.size(), throwable);
+                    batch.forEach(this::retry);
+                } else {
+                    handleResults(batch, statuses);
+                }
+            } finally {
+                inFlightBatches.release();
+            }
+        });
+        return true;
+    }
+
+    // 재시도 푸시는 이미 토큰이 있으므로 새 푸시의 토큰만 Redis 에서 한 번에 조회한다.
+    private List<FCMPush> withTokens(List<FCMPush> pending) {
+        List<Long> userIds = new ArrayList<>();
+        for (FCMPush push : pending) {
+            if (push.token() == null) {
+                userIds.add(push.userId());
+            }
+        }
+        List<String> tokens = userIds.isEmpty() ? List.of() : fcmTokenManager.getTokens(userIds);
+
+        List<FCMPush> batch = new ArrayList<>(pending.size());
+        int tokenIndex = 0;
+        for (FCMPush push : pending) {
+            if (push.token() != null) {
+                batch.add(push);
+                continue;
+            }
+            String token = tokens.get(tokenIndex++);
+            if (token != null) {
+                batch.add(push.withToken(token));
+            }
+        }
+        return batch;
+    }
+
+    private void handleResults(List<FCMPush> batch, List<FCMSendStatus> statuses) {
+        int success = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            FCMPush push = batch.get(i);
+            switch (statuses.get(i)) {
+                case SUCCESS -> success++;
+                case INVALID_TOKEN -> fcmTokenManager.deleteTokenIfMatches(push.userId(), push.token());
+                case RETRYABLE -> retry(push);
+                case FAILED -> log.warn("[FCMDispatcher] - 푸시 발송 실패. userId={}", push.userId());
+            }
+        }
+        log.info("[FCMDispatcher] - Sent {}/{}", success, batch.size());
+    }
+
+    private void retry(FCMPush push) {
+        FCMPush next = push.nextAttempt();
+        if (next.attempt() >= maxAttempts) {
+            log.warn("[FCMDispatcher] - 재시도 횟수를 넘어 푸시를 버립니다. userId={}", push.userId());
+            return;
+        }
+        long delay = backoffMillis * (1L << push.attempt());
+        delay += ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        retryQueue.put(new RetryPush(next, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay)));
+    }
+
+    private record RetryPush(FCMPush push, long readyAtNanos) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(readyAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(readyAtNanos, ((RetryPush) other).readyAtNanos);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.dtalks.dtalks.fcm;
+
+/**
+ * 보낼 푸시 한 건. token 은 발송 직전에 Redis 에서 채워진다.
+ */
+public record FCMPush(Long userId, String body, String token, int attempt) {
+
+    public static FCMPush of(Long userId, String body) {
+        return new FCMPush(userId, body, null, 0);
+    }
+
+    public FCMPush withToken(String token) {
+        return new FCMPush(userId, body, token, attempt);
+    }
+
+    public FCMPush nextAttempt() {
+        return new FCMPush(userId, body, token, attempt + 1);
+    }
+}
@@ -0,0 +1,10 @@
+package com.dtalks.dtalks.fcm;
+
+public enum FCMSendStatus {
+    SUCCESS,
+    // 앱 삭제 등으로 더 이상 유효하지 않은 토큰 -> 토큰 삭제
+    INVALID_TOKEN,
+    // 일시적인 실패 -> 백오프 후 재시도
+    RETRYABLE,
+    FAILED
+}
@@ -0,0 +1,13 @@
+package com.dtalks.dtalks.fcm;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 푸시 묶음을 한 번에 보내고, 입력과 같은 순서의 결과를 비동기로 돌려준다.
+ */
+public interface FCMSender {
+    int MAX_BATCH_SIZE = 500;
+
+    CompletableFuture<List<FCMSendStatus>> send(List<FCMPush> pushes);
+}
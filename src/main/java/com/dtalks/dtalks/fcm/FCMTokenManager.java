@@ -1,5 +1,6 @@
 package com.dtalks.dtalks.fcm;
 
+import com.dtalks.dtalks.base.config.AsyncConfiguration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -7,6 +8,9 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -28,7 +32,23 @@ public class FCMTokenManager {
         redisTemplate.delete(userId);
     }
 
-    @Async
+    // 입력과 같은 순서로, 토큰이 없는 유저는 null 로 돌려준다.
+    public List<String> getTokens(List<Long> userIds) {
+        List<String> keys = userIds.stream().map(String::valueOf).toList();
+        List<String> tokens = redisTemplate.opsForValue().multiGet(keys);
+        return tokens == null ? Collections.nCopies(keys.size(), null) : tokens;
+    }
+
+    // 그 사이 새 토큰이 등록됐을 수 있으므로, 발송에 쓴 토큰과 같을 때만 지운다.
+    public void deleteTokenIfMatches(Long userId, String token) {
+        String key = String.valueOf(userId);
+        if (token.equals(redisTemplate.opsForValue().get(key))) {
+            redisTemplate.delete(key);
+            log.info("[FCMTokenManager] - 만료된 토큰 삭제. userId={}", userId);
+        }
+    }
+
+    @Async(AsyncConfiguration.PUSH_EXECUTOR)
     public void deleteAndSaveFCMToken(String userId, String token) {
         if (getToken(userId) != null) {
             redisTemplate.delete(userId);
@@ -0,0 +1,38 @@
+package com.dtalks.dtalks.fcm;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Firebase 없이 발송 파이프라인의 처리량을 확인하기 위한 가짜 발송기. (dtalks.fcm.sender=fake)
+ * 설정한 지연 후 모든 푸시를 성공으로 처리하고, 누적 발송 수를 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "dtalks.fcm.sender", havingValue = "fake")
+public class FakeFCMSender implements FCMSender {
+
+    private final long latencyMillis;
+    private final AtomicLong sentCount = new AtomicLong();
+
+    public FakeFCMSender(@Value("${dtalks.fcm.fake.latency-ms:100}") long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public CompletableFuture<List<FCMSendStatus>> send(List<FCMPush> pushes) {
+        return CompletableFuture.supplyAsync(() -> {
+            long total = sentCount.addAndGet(pushes.size());
+            log.info("[FakeFCMSender] - batch={}, total={}", pushes.size(), total);
+            return Collections.nCopies(pushes.size(), FCMSendStatus.SUCCESS);
+        }, CompletableFuture.delayedExecutor(latencyMillis, TimeUnit.MILLISECONDS));
+    }
+}
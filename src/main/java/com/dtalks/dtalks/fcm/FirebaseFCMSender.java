@@ -0,0 +1,63 @@
+package com.dtalks.dtalks.fcm;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.firebase.messaging.*;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@ConditionalOnProperty(name = "dtalks.fcm.sender", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseFCMSender implements FCMSender {
+
+    @Override
+    public CompletableFuture<List<FCMSendStatus>> send(List<FCMPush> pushes) {
+        List<Message> messages = new ArrayList<>(pushes.size());
+        for (FCMPush push : pushes) {
+            Notification notification = Notification.builder()
+                    .setTitle("Developer-Talks")
+                    .setBody(push.body()).build();
+            messages.add(Message.builder()
+                    .setToken(push.token())
+                    .setNotification(notification)
+                    .build());
+        }
+
+        CompletableFuture<List<FCMSendStatus>> result = new CompletableFuture<>();
+        ApiFuture<BatchResponse> future = FirebaseMessaging.getInstance().sendAllAsync(messages);
+        ApiFutures.addCallback(future, new ApiFutureCallback<>() {
+            @Override
+            public void onSuccess(BatchResponse response) {
+                List<FCMSendStatus> statuses = new ArrayList<>(pushes.size());
+                for (SendResponse sendResponse : response.getResponses()) {
+                    statuses.add(sendResponse.isSuccessful() ? FCMSendStatus.SUCCESS : toStatus(sendResponse.getException()));
+                }
+                result.complete(statuses);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }, MoreExecutors.directExecutor());
+        return result;
+    }
+
+    private static FCMSendStatus toStatus(FirebaseMessagingException e) {
+        MessagingErrorCode errorCode = e == null ? null : e.getMessagingErrorCode();
+        if (errorCode == null) {
+            return FCMSendStatus.RETRYABLE;
+        }
+        return switch (errorCode) {
+            case UNREGISTERED, SENDER_ID_MISMATCH -> FCMSendStatus.INVALID_TOKEN;
+            case UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED -> FCMSendStatus.RETRYABLE;
+            default -> FCMSendStatus.FAILED;
+        };
+    }
+}
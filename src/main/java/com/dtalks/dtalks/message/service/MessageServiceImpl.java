@@ -7,9 +7,9 @@ import com.dtalks.dtalks.message.entity.Message;
 import com.dtalks.dtalks.message.repository.MessageRepository;
 import com.dtalks.dtalks.notification.dto.NotificationRequestDto;
 import com.dtalks.dtalks.notification.enums.NotificationType;
-import com.dtalks.dtalks.user.Util.SecurityUtil;
 import com.dtalks.dtalks.user.entity.User;
 import com.dtalks.dtalks.user.repository.UserRepository;
+import com.dtalks.dtalks.user.service.CurrentUserProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
@@ -28,11 +28,12 @@ public class MessageServiceImpl implements MessageService{
     private final UserRepository userRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final MessageSource messageSource;
+    private final CurrentUserProvider currentUserProvider;
 
     @Override
     @Transactional(readOnly = true)
     public List<MessageDto> searchByNickname(String nickname) {
-        User sender = SecurityUtil.getUser(); //조회하려는 사람
+        User sender = currentUserProvider.getUser(); //조회하려는 사람
 
         User receiver = userRepository.findByNickname(nickname)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_ERROR, "존재하지 않는 회원입니다. "));
@@ -51,7 +52,7 @@ public class MessageServiceImpl implements MessageService{
     @Override
     @Transactional(readOnly = true)
     public List<MessageDto> searchSentMessage() {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         List<Message> messageList = messageRepository.findBySenderOrderByCreateDateAsc(user);
 
         if (messageList.isEmpty()) {
@@ -69,7 +70,7 @@ public class MessageServiceImpl implements MessageService{
     @Override
     @Transactional(readOnly = true)
     public List<MessageDto> searchReceiveMessage() {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         List<Message> messageList = messageRepository.findByReceiverOrderByCreateDateAsc(user);
 
         if (messageList.isEmpty()) {
@@ -87,7 +88,7 @@ public class MessageServiceImpl implements MessageService{
     @Override
     @Transactional
     public Long sendMessage(MessageDto messageDto) {
-        User sender = SecurityUtil.getUser();
+        User sender = currentUserProvider.getUser();
 
         Optional<User> optionalReceiver = userRepository.findByNickname(messageDto.getReceiverNickname());
         if (optionalReceiver.isEmpty()) {
@@ -112,7 +113,7 @@ public class MessageServiceImpl implements MessageService{
         }
         Message message = messageOptional.get();
 
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
 
         if (!user.getUserid().equals(message.getSender().getUserid())) {
             throw new CustomException(ErrorCode.PERMISSION_NOT_GRANTED_ERROR, "삭제할 수 있는 권한이 없습니다");
@@ -134,7 +135,7 @@ public class MessageServiceImpl implements MessageService{
         }
         Message message = messageOptional.get();
 
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
 
         if (!user.getUserid().equals(message.getReceiver().getUserid())) {
             throw new CustomException(ErrorCode.PERMISSION_NOT_GRANTED_ERROR, "삭제할 수 있는 권한이 없습니다");
@@ -3,22 +3,27 @@ package com.dtalks.dtalks.news.controller;
 import com.dtalks.dtalks.news.entity.News;
 import com.dtalks.dtalks.news.service.NewsService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
 public class NewsController {
     private final NewsService newsService;
 
-    @Operation(summary = "최신 20개 뉴스 불러오는 api", description = "BLOTER 사이트의 IT 기업 new 기사(제목, 내용, 작성자, 날짜, 이미지 주소, 링크) 반환")
+    @Operation(summary = "최신 20개 뉴스 불러오는 api", description = "BLOTER 사이트의 IT 기업 new 기사(제목, 내용, 작성자, 날짜, 이미지 주소, 링크) 반환", responses = {
+            @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = News.class)))),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 와 같아 바뀐 뉴스가 없을 때")
+    })
     @GetMapping("/news")
-    public ResponseEntity<List<News>> getNews() {
-        List<News> newsList = newsService.getNews();
-        return ResponseEntity.ok(newsList);
+    public ResponseEntity<byte[]> getNews(WebRequest webRequest) {
+        return newsService.getNewsJson().toResponse(webRequest);
     }
 }
\ No newline at end of file
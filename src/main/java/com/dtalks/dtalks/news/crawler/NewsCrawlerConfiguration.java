@@ -0,0 +1,9 @@
+package com.dtalks.dtalks.news.crawler;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(NewsCrawlerProperties.class)
+public class NewsCrawlerConfiguration {
+}
@@ -0,0 +1,16 @@
+package com.dtalks.dtalks.news.crawler;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * dtalks.news.sources[n].* 로 크롤링할 사이트를 추가한다. 설정이 없으면 BLOTER 만 크롤링한다.
+ */
+@ConfigurationProperties(prefix = "dtalks.news")
+public record NewsCrawlerProperties(List<NewsSource> sources) {
+
+    public List<NewsSource> sourcesOrDefault() {
+        return sources == null || sources.isEmpty() ? List.of(NewsSource.BLOTER) : sources;
+    }
+}
@@ -0,0 +1,17 @@
+package com.dtalks.dtalks.news.crawler;
+
+import org.jsoup.nodes.Document;
+
+/**
+ * 목록 페이지 조회 결과. 304 응답이면 document 는 null 이다.
+ */
+public record NewsPage(Document document, String etag, String lastModified) {
+
+    public static NewsPage notModified(String etag, String lastModified) {
+        return new NewsPage(null, etag, lastModified);
+    }
+
+    public boolean isNotModified() {
+        return document == null;
+    }
+}
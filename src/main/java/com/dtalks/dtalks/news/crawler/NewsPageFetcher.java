@@ -0,0 +1,46 @@
+package com.dtalks.dtalks.news.crawler;
+
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 지난번 응답의 ETag, Last-Modified 로 조건부 GET 을 보내 바뀌지 않은 페이지는 본문을 받지 않는다.
+ */
+@Component
+public class NewsPageFetcher {
+
+    private static final int NOT_MODIFIED = 304;
+    private static final String USER_AGENT = "Mozilla/5.0 (compatible; dtalks-news-crawler)";
+
+    private final int timeoutMillis;
+
+    public NewsPageFetcher(@Value("${dtalks.news.timeout-ms:10000}") int timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public NewsPage fetch(NewsSource source, String etag, String lastModified) throws IOException {
+        Connection connection = Jsoup.connect(source.pageUrl())
+                .userAgent(USER_AGENT)
+                .timeout(timeoutMillis)
+                .ignoreHttpErrors(true);
+        if (etag != null) {
+            connection.header("If-None-Match", etag);
+        }
+        if (lastModified != null) {
+            connection.header("If-Modified-Since", lastModified);
+        }
+
+        Connection.Response response = connection.execute();
+        if (response.statusCode() == NOT_MODIFIED) {
+            return NewsPage.notModified(etag, lastModified);
+        }
+        if (response.statusCode() >= 400) {
+            throw new IOException("HTTP " + response.statusCode() + " " + source.pageUrl());
+        }
+        return new NewsPage(response.parse(), response.header("ETag"), response.header("Last-Modified"));
+    }
+}
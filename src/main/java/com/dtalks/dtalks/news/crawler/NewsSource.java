@@ -0,0 +1,59 @@
+package com.dtalks.dtalks.news.crawler;
+
+import com.dtalks.dtalks.news.entity.News;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 크롤링할 뉴스 목록 페이지와 기사 요소를 찾는 css 선택자.
+ * 기사 url 은 기존에 저장된 값과 같도록 baseUrl 에 href 를 그대로 이어 붙인다.
+ */
+public record NewsSource(String name,
+                         String pageUrl,
+                         String baseUrl,
+                         String itemSelector,
+                         String titleSelector,
+                         String contentSelector,
+                         String writerSelector,
+                         String imageSelector,
+                         String dateSelector,
+                         String linkSelector) {
+
+    private static final int MAX_LENGTH = 100;
+
+    public static final NewsSource BLOTER = new NewsSource(
+            "bloter",
+            "https://www.bloter.net/news/articleList.html?sc_sub_section_code=S2N15&view_type=sm",
+            "https://www.bloter.net/",
+            "#section-list > ul > li",
+            "h2.titles",
+            "p.lead.line-6x2",
+            "em:nth-child(2)",
+            "img",
+            "em:nth-child(3)",
+            "a.thumb");
+
+    public List<News> parse(Document document) {
+        List<News> newsList = new ArrayList<>();
+        for (Element element : document.select(itemSelector)) {
+            String href = element.select(linkSelector).attr("href");
+            if (href.isBlank()) {
+                continue;
+            }
+            String title = truncate(element.select(titleSelector).text());
+            String content = truncate(element.select(contentSelector).text());
+            String writer = element.select(writerSelector).text();
+            String image = element.select(imageSelector).attr("src");
+            String date = element.select(dateSelector).text();
+            newsList.add(News.toEntity(title, content, writer, image, date, baseUrl + href));
+        }
+        return newsList;
+    }
+
+    private static String truncate(String value) {
+        return value.length() > MAX_LENGTH ? value.substring(0, MAX_LENGTH) : value;
+    }
+}
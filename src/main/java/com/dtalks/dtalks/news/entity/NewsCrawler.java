@@ -1,60 +1,163 @@
 package com.dtalks.dtalks.news.entity;
 
+import com.dtalks.dtalks.base.component.JsonResponseCache;
+import com.dtalks.dtalks.base.config.AsyncConfiguration;
+import com.dtalks.dtalks.news.crawler.NewsCrawlerProperties;
+import com.dtalks.dtalks.news.crawler.NewsPage;
+import com.dtalks.dtalks.news.crawler.NewsPageFetcher;
+import com.dtalks.dtalks.news.crawler.NewsSource;
 import com.dtalks.dtalks.news.repository.NewsRepository;
-import lombok.RequiredArgsConstructor;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import com.dtalks.dtalks.news.service.NewsService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+/**
+ * 설정된 뉴스 사이트들을 동시에 조회해 새 기사만 저장한다.
+ * 바뀌지 않은 페이지는 조건부 GET 으로 건너뛰고, 이미 저장된 기사는 페이지마다 url IN 조회 한 번으로 거른다.
+ * 네트워크 조회 중에는 트랜잭션을 열지 않고, 여러 서버 중 Redis 락을 잡은 서버만 크롤링한다.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class NewsCrawler {
-    private static final int MAX_LENGTH = 100;
+
+    private static final String LOCK_KEY = "news:crawl:lock";
+    private static final String VALIDATOR_KEY_PREFIX = "news:crawl:validator:";
+    private static final String ETAG = "etag";
+    private static final String LAST_MODIFIED = "lastModified";
+
     private final NewsRepository newsRepository;
-    @Scheduled(fixedDelay = 3600000) // 1시간마다 실행 (단위: 밀리초)
-    @Transactional
-    @Async
-    public void crawlNews() throws IOException {
-        List<News> newsList = new ArrayList<>();
-
-        String pageUrl = "https://www.bloter.net/news/articleList.html?sc_sub_section_code=S2N15&view_type=sm";//크롤링할 사이트
-        Document document = Jsoup.connect(pageUrl).get();
-        Elements elements = document.select("#section-list > ul > li");// 뉴스 요소 css
-
-        for (Element element : elements) {
-            String title = element.select("h2.titles").text();
-            String content = element.select("p.lead.line-6x2").text();
-            String writer = element.select("em:nth-child(2)").text();
-            String image = element.select("img").attr("src");
-            String date = element.select("em:nth-child(3)").text();
-            String url = "https://www.bloter.net/" + element.select("a.thumb").attr("href");
-
-            //DB에 같은 뉴스 있으면 skip
-            Optional<News> optionalNews = Optional.ofNullable(newsRepository.findByUrl(url));
-            if (optionalNews.isPresent()) {
+    private final NewsPageFetcher newsPageFetcher;
+    private final NewsCrawlerProperties newsCrawlerProperties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JsonResponseCache jsonResponseCache;
+    private final ExecutorService fetchers;
+    private final Duration lockTtl;
+
+    public NewsCrawler(NewsRepository newsRepository,
+                       NewsPageFetcher newsPageFetcher,
+                       NewsCrawlerProperties newsCrawlerProperties,
+                       StringRedisTemplate stringRedisTemplate,
+                       JsonResponseCache jsonResponseCache,
+                       @Value("${dtalks.news.fetch-concurrency:4}") int fetchConcurrency,
+                       @Value("${dtalks.news.lock-ttl-ms:3000000}") long lockTtlMillis) {
+        this.newsRepository = newsRepository;
+        this.newsPageFetcher = newsPageFetcher;
+        this.newsCrawlerProperties = newsCrawlerProperties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jsonResponseCache = jsonResponseCache;
+        this.fetchers = Executors.newFixedThreadPool(fetchConcurrency, new CustomizableThreadFactory("news-fetch-"));
+        this.lockTtl = Duration.ofMillis(lockTtlMillis);
+    }
+
+    // 락은 해제하지 않고 TTL 로 만료시켜, 주기 안에서는 한 서버만 크롤링하게 한다.
+    @Scheduled(fixedDelayString = "${dtalks.news.crawl-interval-ms:3600000}")
+    @Async(AsyncConfiguration.CRAWL_EXECUTOR)
+    public void crawlNews() {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", lockTtl))) {
+            return;
+        }
+
+        List<CompletableFuture<CrawlResult>> futures = new ArrayList<>();
+        for (NewsSource source : newsCrawlerProperties.sourcesOrDefault()) {
+            futures.add(CompletableFuture.supplyAsync(() -> crawl(source), fetchers));
+        }
+
+        // 여러 사이트에 같은 기사가 있으면 먼저 조회된 것만 남긴다.
+        Map<String, News> newsByUrl = new LinkedHashMap<>();
+        List<CrawlResult> results = new ArrayList<>();
+        for (CompletableFuture<CrawlResult> future : futures) {
+            CrawlResult result = future.join();
+            if (result == null) {
                 continue;
             }
-            //title, content 문자열 자르기
-            if (title.length() > MAX_LENGTH) {
-                title = title.substring(0, MAX_LENGTH);
+            results.add(result);
+            for (News news : result.newsList()) {
+                newsByUrl.putIfAbsent(news.getUrl(), news);
             }
-            if (content.length() > MAX_LENGTH) {
-                content = content.substring(0, MAX_LENGTH);
+        }
+
+        if (!newsByUrl.isEmpty()) {
+            newsRepository.saveAll(newsByUrl.values());
+            jsonResponseCache.invalidate(NewsService.CACHE_NAME);
+        }
+        // 저장이 끝난 뒤에 검증값을 남겨야 저장에 실패한 페이지를 다음에 304 로 건너뛰지 않는다.
+        results.forEach(this::saveValidators);
+        log.info("[NewsCrawler] - sources={}, changed={}, saved={}", futures.size(), results.size(), newsByUrl.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fetchers.shutdown();
+    }
+
+    // 바뀌지 않았거나 조회에 실패한 페이지는 null
+    private CrawlResult crawl(NewsSource source) {
+        try {
+            Map<Object, Object> validators = stringRedisTemplate.opsForHash().entries(validatorKey(source));
+            NewsPage page = newsPageFetcher.fetch(source, (String) validators.get(ETAG), (String) validators.get(LAST_MODIFIED));
+            if (page.isNotModified()) {
+                return null;
             }
+            return new CrawlResult(source, page, excludeSaved(source.parse(page.document())));
+        } catch (IOException | RuntimeException e) {
+            log.warn("[NewsCrawler] - {} 크롤링 실패", source.name(), e);
+            return null;
+        }
+    }
+
+    private List<News> excludeSaved(List<News> newsList) {
+        if (newsList.isEmpty()) {
+            return newsList;
+        }
+        List<String> urls = newsList.stream().map(News::getUrl).toList();
+        Set<String> savedUrls = new HashSet<>(newsRepository.findUrlsByUrlIn(urls));
+        return newsList.stream().filter(news -> !savedUrls.contains(news.getUrl())).toList();
+    }
 
-            News news = News.toEntity(title, content, writer, image, date, url);
-            newsList.add(news);
+    private void saveValidators(CrawlResult result) {
+        NewsPage page = result.page();
+        Map<String, String> validators = new HashMap<>();
+        if (page.etag() != null) {
+            validators.put(ETAG, page.etag());
         }
-        newsRepository.saveAll(newsList);
+        if (page.lastModified() != null) {
+            validators.put(LAST_MODIFIED, page.lastModified());
+        }
+        try {
+            String key = validatorKey(result.source());
+            stringRedisTemplate.delete(key);
+            if (!validators.isEmpty()) {
+                stringRedisTemplate.opsForHash().putAll(key, validators);
+            }
+        } catch (DataAccessException e) {
+            log.warn("[NewsCrawler] - {} 검증값 저장 실패", result.source().name(), e);
+        }
+    }
+
+    private static String validatorKey(NewsSource source) {
+        return VALIDATOR_KEY_PREFIX + source.name();
+    }
+
+    private record CrawlResult(NewsSource source, NewsPage page, List<News> newsList) {
     }
-}
\ No newline at end of file
+}
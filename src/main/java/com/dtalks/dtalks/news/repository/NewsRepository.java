@@ -2,11 +2,17 @@ package com.dtalks.dtalks.news.repository;
 
 import com.dtalks.dtalks.news.entity.News;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface NewsRepository extends JpaRepository<News, Long> {
     News findByUrl(String url);
     List<News> findTop20ByOrderByDateDesc();
 
-}
\ No newline at end of file
+    @Query("select n.url from News n where n.url in :urls")
+    List<String> findUrlsByUrlIn(@Param("urls") Collection<String> urls);
+
+}
@@ -1,9 +1,14 @@
 package com.dtalks.dtalks.news.service;
 
+import com.dtalks.dtalks.base.dto.CachedJson;
 import com.dtalks.dtalks.news.entity.News;
 
 import java.util.List;
 
 public interface NewsService {
+    String CACHE_NAME = "news";
+
     List<News> getNews();
-}
\ No newline at end of file
+
+    CachedJson getNewsJson();
+}
@@ -1,5 +1,7 @@
 package com.dtalks.dtalks.news.service;
 
+import com.dtalks.dtalks.base.component.JsonResponseCache;
+import com.dtalks.dtalks.base.dto.CachedJson;
 import com.dtalks.dtalks.exception.ErrorCode;
 import com.dtalks.dtalks.exception.exception.CustomException;
 import com.dtalks.dtalks.news.entity.News;
@@ -14,6 +16,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NewsServiceImpl implements NewsService {
     private final NewsRepository newsRepository;
+    private final JsonResponseCache jsonResponseCache;
     @Override
     public List<News> getNews() {
         List<News> newsList = newsRepository.findTop20ByOrderByDateDesc();
@@ -23,4 +26,10 @@ public class NewsServiceImpl implements NewsService {
 
         return newsList;
     }
-}
\ No newline at end of file
+
+    // 크롤러가 새 기사를 저장하면 비워진다.
+    @Override
+    public CachedJson getNewsJson() {
+        return jsonResponseCache.get(CACHE_NAME, "top20", this::getNews);
+    }
+}
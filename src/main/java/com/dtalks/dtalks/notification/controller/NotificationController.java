@@ -3,15 +3,15 @@ package com.dtalks.dtalks.notification.controller;
 import com.dtalks.dtalks.notification.dto.NotificationDto;
 import com.dtalks.dtalks.notification.enums.ReadStatus;
 import com.dtalks.dtalks.notification.service.NotificationService;
-//import com.dtalks.dtalks.notification.service.SseEmitters;
+import com.dtalks.dtalks.notification.service.SseEmitters;
+import com.dtalks.dtalks.user.Util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -23,16 +23,17 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
-//    private final SseEmitters sseEmitters;
-//
-//    @Operation(description = "알람 구독")
-//    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-//    public SseEmitter subscribe(@AuthenticationPrincipal UserDetails userDetails,
-//                                @RequestParam(required = false, defaultValue = "") String lastEventId,
-//                                HttpServletResponse response) {
-//        response.setHeader("X-Accel-Buffering", "no");
-//        return sseEmitters.subscribe(userDetails.getUsername(), lastEventId);
-//    }
+    private final SseEmitters sseEmitters;
+
+    @Operation(summary = "알람 구독 (SSE)", description = "연결 직후 unread-count 이벤트로 안 읽은 알람 수를, 이후 notification 이벤트로 새 알람을 보낸다. " +
+            "재연결 시 Last-Event-ID 이후의 최근 알람을 다시 보낸다.")
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                HttpServletResponse response) {
+        response.setHeader("X-Accel-Buffering", "no");
+        Long userId = SecurityUtil.getPrincipal().getId();
+        return sseEmitters.subscribe(userId, lastEventId, notificationService.countUnreadNotification());
+    }
 
     @Operation(summary = "모든 알람 WAIT -> READ로 상태 변경")
     @PostMapping(value = "/read/all")
@@ -41,6 +42,13 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
+    @Operation(summary = "여러 알람 WAIT -> READ로 한 번에 상태 변경", description = "본인에게 온 알람만 변경된다. (최대 1000개)")
+    @PostMapping(value = "/read")
+    public ResponseEntity<Void> updateReadStatusByIds(@RequestBody List<Long> ids) {
+        notificationService.updateStatusByIds(ids);
+        return ResponseEntity.ok().build();
+    }
+
     @Operation(summary = "특정 알람 WAIT -> READ로 상태 변경")
     @PostMapping(value = "/read/{id}")
     public ResponseEntity<Void> updateAllStatus(@PathVariable Long id) {
@@ -63,6 +71,18 @@ public class NotificationController {
         return ResponseEntity.ok(notificationService.findAllNotificationByUseridAndStatus(status));
     }
 
+    @Operation(summary = "알람 리스트 무한 스크롤 조회 (count 쿼리 없음, id desc)", parameters = {
+            @Parameter(name = "status", description = "알람의 상태 (READ / WAIT), 생략하면 전체"),
+            @Parameter(name = "after", description = "이전 응답의 마지막 알람 id, 첫 요청은 생략"),
+            @Parameter(name = "size", description = "가져올 개수 (최대 50)")
+    })
+    @GetMapping(value = "/scroll")
+    public ResponseEntity<Slice<NotificationDto>> findAllByCursor(@RequestParam(required = false) ReadStatus status,
+                                                                  @RequestParam(required = false) Long after,
+                                                                  @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(notificationService.findNotificationsByCursor(status, after, Math.max(1, Math.min(size, 50))));
+    }
+
     @Operation(summary = "안 읽은 알람 수")
     @GetMapping(value = "/count")
     public ResponseEntity<Long> countUnreadNotification() {
@@ -76,4 +96,11 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
+    @Operation(summary = "여러 알람 한 번에 삭제, db에서 삭제", description = "본인에게 온 알람만 삭제된다. (최대 1000개)")
+    @DeleteMapping
+    public ResponseEntity<Void> deleteNotifications(@RequestParam List<Long> ids) {
+        notificationService.deleteByIds(ids);
+        return ResponseEntity.ok().build();
+    }
+
 }
@@ -14,6 +14,7 @@ import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
 @Getter
+@Table(indexes = @Index(name = "idx_notification_receiver_status_id", columnList = "receiver_id, read_status, id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification extends BaseTimeEntity{
 
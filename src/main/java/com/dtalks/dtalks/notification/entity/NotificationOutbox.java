@@ -0,0 +1,53 @@
+package com.dtalks.dtalks.notification.entity;
+
+import com.dtalks.dtalks.base.entity.BaseTimeEntity;
+import com.dtalks.dtalks.notification.dto.NotificationRequestDto;
+import com.dtalks.dtalks.notification.enums.NotificationType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 도메인 변경과 같은 트랜잭션에 기록되는 알림 이벤트.
+ * NotificationOutboxRelay 가 꺼내 Notification 저장과 푸시로 넘긴 뒤 삭제한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long refId;
+
+    @Column(nullable = false)
+    private Long receiverId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType type;
+
+    private String message;
+
+    private String url;
+
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int attempts;
+
+    public static NotificationOutbox of(NotificationRequestDto dto) {
+        NotificationOutbox outbox = new NotificationOutbox();
+        outbox.refId = dto.getRefId();
+        outbox.receiverId = dto.getReceiver().getId();
+        outbox.type = dto.getType();
+        outbox.message = dto.getMessage();
+        outbox.url = dto.getUrl();
+        return outbox;
+    }
+
+    public void increaseAttempts() {
+        this.attempts++;
+    }
+}
@@ -0,0 +1,29 @@
+package com.dtalks.dtalks.notification.repository;
+
+import com.dtalks.dtalks.notification.entity.NotificationOutbox;
+import com.dtalks.dtalks.notification.enums.NotificationType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 여러 relay 가 동시에 꺼내도 같은 행을 두 번 처리하지 않도록 잠긴 행은 건너뛴다.
+    @Query(value = "select * from notification_outbox order by id limit :limit for update skip locked", nativeQuery = true)
+    List<NotificationOutbox> lockBatch(@Param("limit") int limit);
+
+    @Query(value = "select * from notification_outbox where id = :id for update skip locked", nativeQuery = true)
+    Optional<NotificationOutbox> lockById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from NotificationOutbox o where o.refId = :refId and o.type = :type")
+    int deleteByRefIdAndType(@Param("refId") Long refId, @Param("type") NotificationType type);
+
+    @Query("select min(o.createDate) from NotificationOutbox o")
+    LocalDateTime findOldestCreateDate();
+}
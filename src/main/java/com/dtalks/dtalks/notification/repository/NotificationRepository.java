@@ -3,9 +3,15 @@ package com.dtalks.dtalks.notification.repository;
 import com.dtalks.dtalks.notification.entity.Notification;
 import com.dtalks.dtalks.notification.enums.NotificationType;
 import com.dtalks.dtalks.notification.enums.ReadStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +21,26 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findByReceiverIdAndReadStatus(Long userId, ReadStatus status);
     Long countByReceiverIdAndReadStatus(Long userId, ReadStatus status);
 
+    @Query("select n.receiver.id, count(n) from Notification n where n.readStatus = :status group by n.receiver.id")
+    List<Object[]> countGroupByReceiver(@Param("status") ReadStatus status);
+
+    Slice<Notification> findByReceiverIdAndIdLessThanOrderByIdDesc(Long userId, Long id, Pageable pageable);
+    Slice<Notification> findByReceiverIdAndReadStatusAndIdLessThanOrderByIdDesc(Long userId, ReadStatus status, Long id, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Notification n set n.readStatus = com.dtalks.dtalks.notification.enums.ReadStatus.READ, n.modifiedDate = :now " +
+            "where n.receiver.id = :userId and n.readStatus = com.dtalks.dtalks.notification.enums.ReadStatus.WAIT")
+    int markAllRead(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Notification n set n.readStatus = com.dtalks.dtalks.notification.enums.ReadStatus.READ, n.modifiedDate = :now " +
+            "where n.receiver.id = :userId and n.readStatus = com.dtalks.dtalks.notification.enums.ReadStatus.WAIT and n.id in :ids")
+    int markRead(@Param("userId") Long userId, @Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Notification n where n.receiver.id = :userId and n.readStatus = :status and n.id in :ids")
+    int deleteByReceiverIdAndReadStatusAndIdIn(@Param("userId") Long userId, @Param("status") ReadStatus status, @Param("ids") Collection<Long> ids);
+
     Optional<Notification> findByRefIdAndType(Long refId, NotificationType type);
     List<Notification> findByRefIdAndTypeIn(Long refId, List<NotificationType> type);
 
@@ -0,0 +1,176 @@
+package com.dtalks.dtalks.notification.service;
+
+import com.dtalks.dtalks.base.component.AfterCommit;
+import com.dtalks.dtalks.fcm.FCMService;
+import com.dtalks.dtalks.notification.dto.NotificationDto;
+import com.dtalks.dtalks.notification.entity.Notification;
+import com.dtalks.dtalks.notification.entity.NotificationOutbox;
+import com.dtalks.dtalks.notification.repository.NotificationOutboxRepository;
+import com.dtalks.dtalks.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * notification_outbox 를 배치로 꺼내 Notification 저장, FCM 큐, SSE 로 전달한다.
+ * 설정한 수의 worker 가 'for update skip locked' 로 서로 다른 행을 가져가고, 전달과 삭제는 한 트랜잭션에서 처리된다.
+ * 배치가 실패하면 한 건씩 다시 처리해, 계속 실패하는 행만 시도 횟수를 올리고 한도를 넘으면 버린다.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final UserRepository userRepository;
+    private final FCMService fcmService;
+    private final SseEmitters sseEmitters;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService workers;
+    private final Semaphore idleWorkers;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+    private final Timer deliveryLag;
+    private final Counter delivered;
+    private final Counter dropped;
+
+    public NotificationOutboxRelay(NotificationOutboxRepository notificationOutboxRepository,
+                                   UserRepository userRepository,
+                                   FCMService fcmService,
+                                   SseEmitters sseEmitters,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${dtalks.notification.outbox.concurrency:2}") int concurrency,
+                                   @Value("${dtalks.notification.outbox.batch-size:200}") int batchSize,
+                                   @Value("${dtalks.notification.outbox.max-attempts:5}") int maxAttempts) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.userRepository = userRepository;
+        this.fcmService = fcmService;
+        this.sseEmitters = sseEmitters;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workers = Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory("outbox-relay-"));
+        this.idleWorkers = new Semaphore(concurrency);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+
+        Gauge.builder("notification.outbox.pending", pending, AtomicLong::get)
+                .description("전달되지 않은 알림 outbox 행 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.outbox.oldest.age", oldestAgeSeconds, AtomicLong::get)
+                .description("가장 오래된 outbox 행이 기다린 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("notification.outbox.delivery.lag")
+                .description("outbox 기록부터 전달까지 걸린 시간")
+                .register(meterRegistry);
+        this.delivered = meterRegistry.counter("notification.outbox.delivered");
+        this.dropped = meterRegistry.counter("notification.outbox.dropped");
+    }
+
+    @Scheduled(fixedDelayString = "${dtalks.notification.outbox.poll-interval-ms:500}")
+    public void poll() {
+        while (idleWorkers.tryAcquire()) {
+            workers.execute(() -> {
+                try {
+                    drain();
+                } catch (RuntimeException e) {
+                    log.error("[NotificationOutboxRelay] - outbox 처리 실패", e);
+                } finally {
+                    idleWorkers.release();
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dtalks.notification.outbox.metrics-interval-ms:10000}")
+    public void refreshBacklogMetrics() {
+        pending.set(notificationOutboxRepository.count());
+        LocalDateTime oldest = notificationOutboxRepository.findOldestCreateDate();
+        oldestAgeSeconds.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toSeconds());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    // 가득 찬 배치였다면 남은 행이 더 있을 수 있으므로 계속 꺼낸다.
+    private void drain() {
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed == batchSize);
+    }
+
+    private int relayBatch() {
+        List<Long> ids = new ArrayList<>();
+        try {
+            Integer relayed = transactionTemplate.execute(status -> {
+                List<NotificationOutbox> batch = notificationOutboxRepository.lockBatch(batchSize);
+                for (NotificationOutbox outbox : batch) {
+                    ids.add(outbox.getId());
+                    deliver(outbox);
+                }
+                notificationOutboxRepository.deleteAllInBatch(batch);
+                return batch.size();
+            });
+            return relayed == null ? 0 : relayed;
+        } catch (RuntimeException e) {
+            log.warn("[NotificationOutboxRelay] - 배치 {}건 처리 실패, 한 건씩 다시 처리합니다.", ids.size(), e);
+            ids.forEach(this::relayOne);
+            return ids.size();
+        }
+    }
+
+    private void relayOne(Long id) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> notificationOutboxRepository.lockById(id).ifPresent(outbox -> {
+                deliver(outbox);
+                notificationOutboxRepository.delete(outbox);
+            }));
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> notificationOutboxRepository.lockById(id).ifPresent(outbox -> {
+                outbox.increaseAttempts();
+                if (outbox.getAttempts() >= maxAttempts) {
+                    log.error("[NotificationOutboxRelay] - {}회 실패한 알림을 버립니다. id={}, receiverId={}, type={}",
+                            outbox.getAttempts(), outbox.getId(), outbox.getReceiverId(), outbox.getType(), e);
+                    notificationOutboxRepository.delete(outbox);
+                    dropped.increment();
+                }
+            }));
+        }
+    }
+
+    private void deliver(NotificationOutbox outbox) {
+        Long receiverId = outbox.getReceiverId();
+        Notification notification = fcmService.sendMessage(receiverId, outbox.getRefId(), userRepository.getReferenceById(receiverId),
+                outbox.getType(), outbox.getMessage(), outbox.getUrl());
+        NotificationDto dto = NotificationDto.toDto(notification);
+        LocalDateTime createDate = outbox.getCreateDate();
+        AfterCommit.run(() -> {
+            sseEmitters.send(receiverId, dto);
+            deliveryLag.record(Duration.between(createDate, LocalDateTime.now()));
+            delivered.increment();
+        });
+    }
+}
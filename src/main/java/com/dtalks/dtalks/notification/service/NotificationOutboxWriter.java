@@ -0,0 +1,21 @@
+package com.dtalks.dtalks.notification.service;
+
+import com.dtalks.dtalks.notification.dto.NotificationRequestDto;
+import com.dtalks.dtalks.notification.entity.NotificationOutbox;
+import com.dtalks.dtalks.notification.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxWriter {
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    // 커밋 직전에 같은 트랜잭션으로 저장하므로, 도메인 변경이 커밋되면 알림 이벤트도 반드시 남는다.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleNotification(NotificationRequestDto dto) {
+        notificationOutboxRepository.save(NotificationOutbox.of(dto));
+    }
+}
@@ -1,15 +1,21 @@
 package com.dtalks.dtalks.notification.service;
 
 import com.dtalks.dtalks.notification.dto.NotificationDto;
+import com.dtalks.dtalks.notification.enums.NotificationType;
 import com.dtalks.dtalks.notification.enums.ReadStatus;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 public interface NotificationService {
     void updateStatus(Long id);
     void updateAllStatus();
+    void updateStatusByIds(List<Long> ids);
     List<NotificationDto> findAllNotificationByUserid();
     List<NotificationDto> findAllNotificationByUseridAndStatus(ReadStatus status);
+    Slice<NotificationDto> findNotificationsByCursor(ReadStatus status, Long after, int size);
     Long countUnreadNotification();
     void deleteById(Long id);
+    void deleteByIds(List<Long> ids);
+    void deleteByRefIdAndType(Long refId, NotificationType type);
 }
@@ -4,45 +4,66 @@ import com.dtalks.dtalks.exception.ErrorCode;
 import com.dtalks.dtalks.exception.exception.CustomException;
 import com.dtalks.dtalks.notification.dto.NotificationDto;
 import com.dtalks.dtalks.notification.entity.Notification;
+import com.dtalks.dtalks.notification.enums.NotificationType;
 import com.dtalks.dtalks.notification.enums.ReadStatus;
+import com.dtalks.dtalks.notification.repository.NotificationOutboxRepository;
 import com.dtalks.dtalks.notification.repository.NotificationRepository;
 import com.dtalks.dtalks.user.Util.SecurityUtil;
 import com.dtalks.dtalks.user.entity.User;
+import com.dtalks.dtalks.user.service.CurrentUserProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
+    private static final int MAX_BULK_SIZE = 1000;
+
     private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final CurrentUserProvider currentUserProvider;
 
     @Override
     @Transactional
     public void updateStatus(Long id) {
         Notification notification = notificationRepository.findById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND_ERROR, "해당하는 알람을 찾을 수 없습니다."));
-        notification.updateReadStatus();
+        if (notification.getReadStatus() == ReadStatus.WAIT) {
+            notification.updateReadStatus();
+            unreadNotificationCounter.decrement(notification.getReceiver().getId());
+        }
     }
 
     @Override
     @Transactional
     public void updateAllStatus() {
-        User user = SecurityUtil.getUser();
-        List<Notification> notificationList = notificationRepository.findByReceiverIdAndReadStatus(user.getId(), ReadStatus.WAIT);
-        for (Notification notification : notificationList) {
-            notification.updateReadStatus();
-        }
+        Long userId = SecurityUtil.getPrincipal().getId();
+        notificationRepository.markAllRead(userId, LocalDateTime.now());
+        unreadNotificationCounter.reset(userId);
+    }
+
+    @Override
+    @Transactional
+    public void updateStatusByIds(List<Long> ids) {
+        checkBulkSize(ids);
+        Long userId = SecurityUtil.getPrincipal().getId();
+        int updated = notificationRepository.markRead(userId, ids, LocalDateTime.now());
+        unreadNotificationCounter.decrement(userId, updated);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<NotificationDto> findAllNotificationByUserid() {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         List<Notification> notificationList = notificationRepository.findByReceiverIdOrderByCreateDateDesc(user.getId());
         return notificationList.stream().map(NotificationDto::toDto).toList();
     }
@@ -50,22 +71,72 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     @Transactional(readOnly = true)
     public List<NotificationDto> findAllNotificationByUseridAndStatus(ReadStatus status) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         List<Notification> notificationList = notificationRepository.findByReceiverIdAndReadStatus(user.getId(), status);
         return notificationList.stream().map(NotificationDto::toDto).toList();
     }
 
     @Override
     @Transactional(readOnly = true)
+    public Slice<NotificationDto> findNotificationsByCursor(ReadStatus status, Long after, int size) {
+        Long userId = SecurityUtil.getPrincipal().getId();
+        Long cursor = after == null ? Long.MAX_VALUE : after;
+        PageRequest pageRequest = PageRequest.of(0, size);
+        Slice<Notification> notifications = status == null
+                ? notificationRepository.findByReceiverIdAndIdLessThanOrderByIdDesc(userId, cursor, pageRequest)
+                : notificationRepository.findByReceiverIdAndReadStatusAndIdLessThanOrderByIdDesc(userId, status, cursor, pageRequest);
+        return notifications.map(NotificationDto::toDto);
+    }
+
+    @Override
     public Long countUnreadNotification() {
-        User user = SecurityUtil.getUser();
-        return notificationRepository.countByReceiverIdAndReadStatus(user.getId(), ReadStatus.WAIT);
+        return unreadNotificationCounter.getCount(SecurityUtil.getPrincipal().getId());
     }
 
     @Override
     @Transactional
     public void deleteById(Long id) {
-        notificationRepository.deleteById(id);
+        notificationRepository.findById(id).ifPresent(notification -> {
+            notificationRepository.delete(notification);
+            if (notification.getReadStatus() == ReadStatus.WAIT) {
+                unreadNotificationCounter.decrement(notification.getReceiver().getId());
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public void deleteByIds(List<Long> ids) {
+        checkBulkSize(ids);
+        Long userId = SecurityUtil.getPrincipal().getId();
+        int unread = notificationRepository.deleteByReceiverIdAndReadStatusAndIdIn(userId, ReadStatus.WAIT, ids);
+        notificationRepository.deleteByReceiverIdAndReadStatusAndIdIn(userId, ReadStatus.READ, ids);
+        unreadNotificationCounter.decrement(userId, unread);
+    }
+
+    /**
+     * 알림 대상(댓글, 추천 등)이 취소되었을 때 알림을 지운다. 읽은 알림은 삭제 표시만 하고, 아직 없으면 넘어간다.
+     * 아직 발송되지 않은 outbox 행을 먼저 지워, 취소 뒤에 알림이 만들어지지 않게 한다.
+     * relay 가 그 행을 처리 중이면 커밋을 기다린 뒤 지우게 되므로, 이어지는 조회에서 만들어진 알림이 보인다.
+     */
+    @Override
+    @Transactional
+    public void deleteByRefIdAndType(Long refId, NotificationType type) {
+        notificationOutboxRepository.deleteByRefIdAndType(refId, type);
+        notificationRepository.findByRefIdAndType(refId, type).ifPresent(notification -> {
+            if (notification.getReadStatus() == ReadStatus.READ) {
+                notification.readDataDeleteSetting();
+            } else {
+                notificationRepository.deleteById(notification.getId());
+                unreadNotificationCounter.decrement(notification.getReceiver().getId());
+            }
+        });
+    }
+
+    private void checkBulkSize(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BULK_SIZE) {
+            throw new CustomException(ErrorCode.VALIDATION_ERROR, "알람 id 는 1개 이상 " + MAX_BULK_SIZE + "개 이하로 보내야 합니다.");
+        }
     }
 
 }
@@ -1,142 +1,203 @@
-//package com.dtalks.dtalks.notification.service;
-//
-//import com.dtalks.dtalks.notification.dto.NotificationDto;
-//import com.dtalks.dtalks.notification.entity.Notification;
-//import com.dtalks.dtalks.notification.enums.NotificationType;
-//import com.dtalks.dtalks.notification.repository.NotificationRepository;
-//import com.dtalks.dtalks.user.entity.User;
-//import lombok.RequiredArgsConstructor;
-//import lombok.extern.slf4j.Slf4j;
-//import org.springframework.http.MediaType;
-//import org.springframework.stereotype.Component;
-//import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
-//
-//import java.io.IOException;
-//import java.util.Map;
-//import java.util.concurrent.ConcurrentHashMap;
-//import java.util.stream.Collectors;
-//
-//@Slf4j
-//@Component
-//@RequiredArgsConstructor
-//public class SseEmitters {
-//    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-//    private final Map<String, Object> eventCache = new ConcurrentHashMap<>();
-//    private final NotificationRepository notificationRepository;
-//
-////    private Long TIMEOUT = 1000L * 60L * 20L;
-//    private Long TIMEOUT = 1000L * 60L * 3;
-//
-//    public SseEmitter subscribe(String userid, String lastEventId) {
-//        log.info("[SSE] - subscribe: " + userid);
-//        String emitterId = makeTimeIncludeId(userid);
-//        SseEmitter emitter = save(emitterId, new SseEmitter(TIMEOUT));
-//        emitter.onCompletion(() -> {
-//            log.info("[SSE] - onCompletion()");
-//            deleteAllEmitterStartWithId(userid);
-//        });
-//        emitter.onTimeout(() -> {
-//            log.info("[SSE] - timeout: " + userid);
-//            this.emitters.remove(emitterId);
-//        });
-//        emitter.onError(throwable -> {
-//            log.error("[SSE] - subscribe error");
-//            log.error("", throwable);
-//            emitter.complete();
-//        });
-//
-//        // 503 에러 방지하기 위해 더미 이벤트 전송
-//        String eventId = makeTimeIncludeId(userid);
-//        sendNotification(emitter, eventId, emitterId, "EventStream Created. [userid=" + userid + "]");
-//
-//        // 미수신한 Event 목록이 존재할 경우 전송하여 Event 유실을 예방 (Last-Event-ID는 프론트에서 보내주는 것)
-//        if (hasLostData(lastEventId)) {
-//            sendLostData(lastEventId, userid, emitterId, emitter);
-//        }
-//
-//        return emitter;
-//    }
-//
-//    private String makeTimeIncludeId(String userid) {
-//        return userid + "_" + System.currentTimeMillis();
-//    }
-//
-//    private void sendNotification(SseEmitter emitter, String eventId, String emitterId, Object data) {
-//        try {
-//            emitter.send(SseEmitter.event()
-//                    .id(eventId)
-//                    .data(data, MediaType.APPLICATION_JSON)
-//                    .reconnectTime(0));
-//        } catch (IOException exception) {
-//            emitters.remove(emitterId);
-//        }
-//    }
-//
-//    private boolean hasLostData(String lastEventId) {
-//        return !lastEventId.isEmpty();
-//    }
-//
-//    private void sendLostData(String lastEventId, String userid, String emitterId, SseEmitter emitter) {
-//        Map<String, Object> eventCaches = findAllEventCacheStartWithByUserid(userid);
-//        eventCaches.entrySet().stream()
-//                .filter(entry -> lastEventId.compareTo(entry.getKey()) < 0)
-//                .forEach(entry -> sendNotification(emitter, entry.getKey(), emitterId, entry.getValue()));
-//    }
-//
-//    public void send(Long refId, User receiver, NotificationType type, String message, String url) {
-//        Notification notification = notificationRepository.save(Notification.createNotification(refId, receiver, type, message, url));
-//
-//        String receiverid = receiver.getUserid();
-//        String eventId = receiverid + "_" + System.currentTimeMillis();
-//
-//        Map<String, SseEmitter> emitters = findAllEmitterStartWithByUserid(receiverid);
-//        emitters.forEach(
-//                (key, emitter) -> {
-//                    saveEventCache(key, notification);
-//                    sendNotification(emitter, eventId, key, NotificationDto.toDto(notification));
-//                }
-//        );
-//    }
-//
-//    public SseEmitter save(String emitterId, SseEmitter sseEmitter) {
-//        emitters.put(emitterId, sseEmitter);
-//        return sseEmitter;
-//    }
-//
-//    public void saveEventCache(String eventCacheId, Object event) {
-//        eventCache.put(eventCacheId, event);
-//    }
-//
-//    public Map<String, SseEmitter> findAllEmitterStartWithByUserid(String userid) {
-//        return emitters.entrySet().stream()
-//                .filter(entry -> entry.getKey().startsWith(userid))
-//                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-//    }
-//
-//    public Map<String, Object> findAllEventCacheStartWithByUserid(String userid) {
-//        return eventCache.entrySet().stream()
-//                .filter(entry -> entry.getKey().startsWith(userid))
-//                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-//    }
-//
-//    public void deleteAllEmitterStartWithId(String userid) {
-//        log.info("[SSE] - deleteAllEmitterStartWithId: " + userid);
-//        emitters.forEach(
-//                (key, emitter) -> {
-//                    if (key.startsWith(userid)) {
-//                        emitters.remove(key);
-//                    }
-//                }
-//        );
-//    }
-//
-//    public void deleteAllEventCacheStartWithId(String userid) {
-//        eventCache.forEach(
-//                (key, emitter) -> {
-//                    if (key.startsWith(userid)) {
-//                        eventCache.remove(key);
-//                    }
-//                }
-//        );
-//    }
-//}
+package com.dtalks.dtalks.notification.service;
+
+import com.dtalks.dtalks.notification.dto.NotificationDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 SSE 연결 관리.
+ * 연결은 유저 id 별로 모아 두고, 유저마다 최근 이벤트를 고정 크기 버퍼에 남겨 Last-Event-ID 이후 이벤트를 다시 보낸다.
+ * 모든 연결의 heartbeat 는 스케줄러 하나가 보낸다.
+ */
+@Slf4j
+@Component
+public class SseEmitters {
+
+    private static final String NOTIFICATION_EVENT = "notification";
+    private static final String UNREAD_COUNT_EVENT = "unread-count";
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Cache<Long, ReplayBuffer> replayBuffers;
+    // 재시작 후에도 이전 이벤트 id 보다 커지도록 시작 시각 기준으로 증가시킨다.
+    private final AtomicLong eventSequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final long timeoutMillis;
+    private final int maxEmittersPerUser;
+    private final int replaySize;
+
+    public SseEmitters(@Value("${dtalks.notification.sse.timeout-ms:1800000}") long timeoutMillis,
+                       @Value("${dtalks.notification.sse.max-emitters-per-user:5}") int maxEmittersPerUser,
+                       @Value("${dtalks.notification.sse.replay-size:50}") int replaySize,
+                       @Value("${dtalks.notification.sse.replay-ttl-seconds:600}") long replayTtlSeconds,
+                       @Value("${dtalks.notification.sse.replay-max-users:100000}") long replayMaxUsers) {
+        this.timeoutMillis = timeoutMillis;
+        this.maxEmittersPerUser = maxEmittersPerUser;
+        this.replaySize = replaySize;
+        this.replayBuffers = Caffeine.newBuilder()
+                .maximumSize(replayMaxUsers)
+                .expireAfterAccess(Duration.ofSeconds(replayTtlSeconds))
+                .build();
+    }
+
+    public SseEmitter subscribe(Long userId, String lastEventId, long unreadCount) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        // 같은 키의 remove 가 빈 리스트를 지우는 것과 겹치지 않도록 추가도 compute 안에서 한다.
+        // 탭을 계속 새로 여는 경우를 대비해 오래된 연결부터 닫고, 닫는 것은 compute 밖에서 한다.
+        List<SseEmitter> evicted = new ArrayList<>();
+        emitters.compute(userId, (id, userEmitters) -> {
+            List<SseEmitter> list = userEmitters == null ? new CopyOnWriteArrayList<>() : userEmitters;
+            list.add(emitter);
+            while (list.size() > maxEmittersPerUser) {
+                evicted.add(list.remove(0));
+            }
+            return list;
+        });
+        evicted.forEach(SseEmitter::complete);
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> {
+            remove(userId, emitter);
+            emitter.complete();
+        });
+        emitter.onError(throwable -> remove(userId, emitter));
+
+        // 첫 이벤트로 안 읽은 알림 수를 보내 503 을 막고, 클라이언트가 /notifications/count 를 따로 호출하지 않게 한다.
+        if (!send(userId, emitter, SseEmitter.event().name(UNREAD_COUNT_EVENT).data(unreadCount))) {
+            return emitter;
+        }
+
+        Long lastId = parseEventId(lastEventId);
+        if (lastId != null) {
+            ReplayBuffer buffer = replayBuffers.getIfPresent(userId);
+            if (buffer != null) {
+                for (ReplayEvent event : buffer.after(lastId)) {
+                    if (!send(userId, emitter, notificationEvent(event))) {
+                        break;
+                    }
+                }
+            }
+        }
+        return emitter;
+    }
+
+    public void send(Long userId, NotificationDto notification) {
+        ReplayEvent event = new ReplayEvent(eventSequence.incrementAndGet(), notification);
+        replayBuffers.get(userId, id -> new ReplayBuffer(replaySize)).add(event);
+
+        List<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : userEmitters) {
+            send(userId, emitter, notificationEvent(event));
+        }
+    }
+
+    public boolean isConnected(Long userId) {
+        return emitters.containsKey(userId);
+    }
+
+    /**
+     * 읽음/삭제 등으로 안 읽은 알림 수가 바뀌면 연결된 모든 탭에 새 값을 보낸다.
+     */
+    public void sendUnreadCount(Long userId, long unreadCount) {
+        List<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : userEmitters) {
+            send(userId, emitter, SseEmitter.event().name(UNREAD_COUNT_EVENT).data(unreadCount));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dtalks.notification.sse.heartbeat-ms:25000}")
+    public void heartbeat() {
+        emitters.forEach((userId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                send(userId, emitter, SseEmitter.event().comment("ping"));
+            }
+        });
+    }
+
+    private boolean send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, userEmitters) -> {
+            userEmitters.remove(emitter);
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+
+    private static SseEmitter.SseEventBuilder notificationEvent(ReplayEvent event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.id()))
+                .name(NOTIFICATION_EVENT)
+                .data(event.notification(), MediaType.APPLICATION_JSON);
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record ReplayEvent(long id, NotificationDto notification) {
+    }
+
+    private static class ReplayBuffer {
+        private final int capacity;
+        private final Deque<ReplayEvent> events;
+
+        ReplayBuffer(int capacity) {
+            this.capacity = capacity;
+            this.events = new ArrayDeque<>(capacity);
+        }
+
+        synchronized void add(ReplayEvent event) {
+            if (events.size() == capacity) {
+                events.pollFirst();
+            }
+            events.addLast(event);
+        }
+
+        synchronized List<ReplayEvent> after(long lastEventId) {
+            List<ReplayEvent> result = new ArrayList<>();
+            for (ReplayEvent event : events) {
+                if (event.id() > lastEventId) {
+                    result.add(event);
+                }
+            }
+            return result;
+        }
+    }
+}
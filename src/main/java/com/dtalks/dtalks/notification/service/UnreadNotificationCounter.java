@@ -0,0 +1,216 @@
+package com.dtalks.dtalks.notification.service;
+
+import com.dtalks.dtalks.base.component.AfterCommit;
+import com.dtalks.dtalks.notification.enums.ReadStatus;
+import com.dtalks.dtalks.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 유저별 안 읽은 알림 수를 Redis(notification:unread:{userId})에 유지한다.
+ * 알림 저장/읽음/삭제 시 커밋 이후에 증감하고, 주기적으로 DB 값과 다시 맞춘다.
+ * 증감 후에는 이 서버에 SSE 로 연결된 유저에게 바뀐 값을 unread-count 이벤트로 보낸다.
+ * 마지막 동기화가 유효한 동안(notification:unread:synced)에는 키가 없는 유저를 0 으로 보고 DB 를 조회하지 않는다.
+ * 동기화 중 다른 요청이 바꾼 키는 덮어쓰지 않고 다음 주기에 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String SYNCED_KEY = KEY_PREFIX + "synced";
+
+    // 키가 있거나 동기화가 유효해 키가 없으면 0 인 것이 확실할 때만 증가시킨다.
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 or redis.call('exists', KEYS[2]) == 1 then " +
+                    "return redis.call('incr', KEYS[1]) end " +
+                    "return -1", Long.class);
+
+    private static final RedisScript<Long> DECREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local count = tonumber(redis.call('get', KEYS[1])) " +
+                    "if count == nil then return -1 end " +
+                    "count = math.max(count - tonumber(ARGV[1]), 0) " +
+                    "redis.call('set', KEYS[1], count) " +
+                    "return count", Long.class);
+
+    // KEYS[i] 의 값이 ARGV[2i-1](읽어 둔 값, 없으면 '')과 같을 때만 ARGV[2i] 로 바꾼다('' 이면 삭제).
+    // 읽은 뒤 증감된 키는 건너뛰어, DB 조회 이후 들어온 변경을 덮어쓰지 않는다.
+    private static final RedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>(
+            "local applied = 0 " +
+                    "for i, key in ipairs(KEYS) do " +
+                    "local current = redis.call('get', key) or '' " +
+                    "if current == ARGV[2 * i - 1] then " +
+                    "if ARGV[2 * i] == '' then redis.call('del', key) else redis.call('set', key, ARGV[2 * i]) end " +
+                    "applied = applied + 1 end " +
+                    "end " +
+                    "return applied", Long.class);
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final SseEmitters sseEmitters;
+
+    @Value("${dtalks.notification.unread-reconcile-interval-ms:600000}")
+    private long reconcileIntervalMillis;
+
+    @Value("${dtalks.notification.unread-fallback-ttl-seconds:60}")
+    private long fallbackTtlSeconds;
+
+    public long getCount(Long userId) {
+        try {
+            String count = stringRedisTemplate.opsForValue().get(key(userId));
+            if (count != null) {
+                return Long.parseLong(count);
+            }
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(SYNCED_KEY))) {
+                return 0L;
+            }
+        } catch (DataAccessException e) {
+            log.warn("[UnreadNotificationCounter] - Redis 조회 실패, DB 에서 조회합니다. userId={}", userId);
+            return notificationRepository.countByReceiverIdAndReadStatus(userId, ReadStatus.WAIT);
+        }
+
+        // 조회와 쓰기 사이에 커밋된 알림은 반영되지 않을 수 있으므로 짧게만 둔다. 다음 동기화 때 TTL 없는 값으로 바뀐다.
+        long count = notificationRepository.countByReceiverIdAndReadStatus(userId, ReadStatus.WAIT);
+        stringRedisTemplate.opsForValue().setIfAbsent(key(userId), String.valueOf(count), Duration.ofSeconds(fallbackTtlSeconds));
+        return count;
+    }
+
+    public void increment(Long userId) {
+        afterCommit(() -> push(userId, stringRedisTemplate.execute(INCREMENT_SCRIPT, List.of(key(userId), SYNCED_KEY))));
+    }
+
+    public void decrement(Long userId) {
+        decrement(userId, 1);
+    }
+
+    public void decrement(Long userId, long amount) {
+        if (amount <= 0) {
+            return;
+        }
+        afterCommit(() -> push(userId, stringRedisTemplate.execute(DECREMENT_SCRIPT, List.of(key(userId)), String.valueOf(amount))));
+    }
+
+    public void reset(Long userId) {
+        afterCommit(() -> {
+            stringRedisTemplate.opsForValue().set(key(userId), "0");
+            push(userId, 0L);
+        });
+    }
+
+    public void evict(Long userId) {
+        afterCommit(() -> stringRedisTemplate.delete(key(userId)));
+    }
+
+    /**
+     * 안 읽은 알림이 있는 유저는 DB 값으로 덮어쓰고, 더 이상 없는 유저의 키는 지운다.
+     * DB 를 읽기 전에 Redis 값을 먼저 읽어 두고, 그 사이 바뀐 키는 건너뛴다.
+     */
+    @Scheduled(fixedDelayString = "${dtalks.notification.unread-reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            Map<String, String> before = readCounters();
+
+            Map<String, String> counts = new HashMap<>();
+            for (Object[] row : notificationRepository.countGroupByReceiver(ReadStatus.WAIT)) {
+                counts.put(key((Long) row[0]), String.valueOf(row[1]));
+            }
+
+            Set<String> keys = new HashSet<>(before.keySet());
+            keys.addAll(counts.keySet());
+            List<String> batchKeys = new ArrayList<>(RECONCILE_BATCH_SIZE);
+            List<String> batchArgs = new ArrayList<>(RECONCILE_BATCH_SIZE * 2);
+            long applied = 0;
+            for (String key : keys) {
+                batchKeys.add(key);
+                batchArgs.add(before.getOrDefault(key, ""));
+                batchArgs.add(counts.getOrDefault(key, ""));
+                if (batchKeys.size() == RECONCILE_BATCH_SIZE) {
+                    applied += applyReconcile(batchKeys, batchArgs);
+                }
+            }
+            if (!batchKeys.isEmpty()) {
+                applied += applyReconcile(batchKeys, batchArgs);
+            }
+            // 한 번 동기화를 놓쳐도 유지되도록 주기의 3배 동안 유효하게 둔다.
+            stringRedisTemplate.opsForValue().set(SYNCED_KEY, "1", Duration.ofMillis(reconcileIntervalMillis * 3));
+            log.info("[UnreadNotificationCounter] - reconcile keys={}, applied={}", keys.size(), applied);
+        } catch (DataAccessException e) {
+            log.error("[UnreadNotificationCounter] - reconcile 실패", e);
+        }
+    }
+
+    private Map<String, String> readCounters() {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> {
+                if (!SYNCED_KEY.equals(key)) {
+                    keys.add(key);
+                }
+            });
+        }
+
+        Map<String, String> values = new HashMap<>();
+        for (int from = 0; from < keys.size(); from += RECONCILE_BATCH_SIZE) {
+            List<String> batch = keys.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, keys.size()));
+            List<String> batchValues = stringRedisTemplate.opsForValue().multiGet(batch);
+            for (int i = 0; i < batch.size(); i++) {
+                String value = batchValues == null ? null : batchValues.get(i);
+                if (value != null) {
+                    values.put(batch.get(i), value);
+                }
+            }
+        }
+        return values;
+    }
+
+    private long applyReconcile(List<String> keys, List<String> args) {
+        Long applied = stringRedisTemplate.execute(RECONCILE_SCRIPT, keys, args.toArray());
+        keys.clear();
+        args.clear();
+        return applied == null ? 0 : applied;
+    }
+
+    // 스크립트가 -1 을 돌려주면(키가 없어 증감하지 않음) 현재 값을 다시 읽어 보낸다.
+    private void push(Long userId, Long count) {
+        if (!sseEmitters.isConnected(userId)) {
+            return;
+        }
+        sseEmitters.sendUnreadCount(userId, count != null && count >= 0 ? count : getCount(userId));
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private void afterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (DataAccessException e) {
+                log.warn("[UnreadNotificationCounter] - 카운터 갱신 실패, 다음 동기화 때 맞춰집니다.", e);
+            }
+        };
+        AfterCommit.run(safeAction);
+    }
+}
@@ -1,13 +1,16 @@
 package com.dtalks.dtalks.qna.answer.repository;
 
 import com.dtalks.dtalks.qna.answer.entity.Answer;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
+    @EntityGraph(attributePaths = {"user", "user.profileImage"})
     List<Answer> findByQuestionId(Long id);
     List<Answer> findByUserIdAndCreateDateBetween(Long userId, LocalDateTime goe, LocalDateTime loe);
+    @EntityGraph(attributePaths = {"user", "user.profileImage"})
     List<Answer> findByUserId(Long id);
 }
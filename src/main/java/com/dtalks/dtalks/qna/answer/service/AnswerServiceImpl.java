@@ -2,10 +2,8 @@ package com.dtalks.dtalks.qna.answer.service;
 
 import com.dtalks.dtalks.exception.exception.*;
 import com.dtalks.dtalks.notification.dto.NotificationRequestDto;
-import com.dtalks.dtalks.notification.entity.Notification;
 import com.dtalks.dtalks.notification.enums.NotificationType;
-import com.dtalks.dtalks.notification.enums.ReadStatus;
-import com.dtalks.dtalks.notification.repository.NotificationRepository;
+import com.dtalks.dtalks.notification.service.NotificationService;
 import com.dtalks.dtalks.qna.answer.dto.AnswerDto;
 import com.dtalks.dtalks.qna.answer.dto.AnswerResponseDto;
 import com.dtalks.dtalks.qna.answer.entity.Answer;
@@ -13,8 +11,8 @@ import com.dtalks.dtalks.qna.answer.repository.AnswerRepository;
 import com.dtalks.dtalks.exception.ErrorCode;
 import com.dtalks.dtalks.qna.question.entity.Question;
 import com.dtalks.dtalks.qna.question.repository.QuestionRepository;
-import com.dtalks.dtalks.user.Util.SecurityUtil;
 import com.dtalks.dtalks.user.entity.User;
+import com.dtalks.dtalks.user.service.CurrentUserProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
@@ -30,10 +28,11 @@ import java.util.stream.Collectors;
 public class AnswerServiceImpl implements AnswerService {
     private final AnswerRepository answerRepository;
     private final QuestionRepository questionRepository;
-    private final NotificationRepository notificationRepository;
+    private final NotificationService notificationService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     private final MessageSource messageSource;
+    private final CurrentUserProvider currentUserProvider;
     @Override
     @Transactional(readOnly = true)
     public AnswerResponseDto searchById(Long id) {
@@ -64,13 +63,13 @@ public class AnswerServiceImpl implements AnswerService {
     @Override
     @Transactional
     public Long createAnswer(AnswerDto answerDto,  Long questionId) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         Optional<Question> optionalQuestion = questionRepository.findById(questionId);
         if(optionalQuestion.isEmpty()){
             throw new CustomException(ErrorCode.POST_NOT_FOUND_ERROR, "해당하는 질문이 존재하지 않습니다. ");
         }
         Question question = optionalQuestion.get();
-        question.plusAnswerCount();
+        questionRepository.addAnswerCount(questionId, 1);
 
         Answer answer = Answer.toEntity(answerDto, question, user);
         answerRepository.save(answer);
@@ -87,7 +86,7 @@ public class AnswerServiceImpl implements AnswerService {
     public Long updateAnswer(Long answerId, AnswerDto answerDto) {
         Answer answer = findAnswer(answerId);
         String userId = answer.getUser().getUserid();
-        if (!userId.equals(SecurityUtil.getUser().getUserid())) {
+        if (!userId.equals(currentUserProvider.getUser().getUserid())) {
             throw new CustomException(ErrorCode.PERMISSION_NOT_GRANTED_ERROR, "해당 답변을 수정할 수 있는 권한이 없습니다.");
         }
         answer.update(answerDto.getContent());
@@ -99,7 +98,7 @@ public class AnswerServiceImpl implements AnswerService {
     public void deleteAnswer(Long id) {
         Answer answer = findAnswer(id);
         String userId = answer.getUser().getUserid();
-        if (!userId.equals(SecurityUtil.getUser().getUserid())) {
+        if (!userId.equals(currentUserProvider.getUser().getUserid())) {
             throw new CustomException(ErrorCode.PERMISSION_NOT_GRANTED_ERROR, "해당 답변을 삭제할 수 있는 권한이 없습니다.");
         }
         if (answer.isSelected()) {
@@ -107,16 +106,10 @@ public class AnswerServiceImpl implements AnswerService {
         }
 
         Question question = answer.getQuestion();
-        question.minusAnswerCount();
+        questionRepository.addAnswerCount(question.getId(), -1);
 
         if (question.getUser().getIsActive()) {
-            Notification notification = notificationRepository.findByRefIdAndType(answer.getId(), NotificationType.ANSWER)
-                    .orElseThrow(() -> new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND_ERROR, "해당하는 알림이 존재하지 않습니다."));
-            if (notification.getReadStatus().equals(ReadStatus.READ)) {
-                notification.readDataDeleteSetting();
-            } else {
-                notificationRepository.deleteById(notification.getId());
-            }
+            notificationService.deleteByRefIdAndType(answer.getId(), NotificationType.ANSWER);
         }
 
         answerRepository.delete(answer);
@@ -127,7 +120,7 @@ public class AnswerServiceImpl implements AnswerService {
     public void selectAnswer(Long id) {
         Answer answer = findAnswer(id);
         Question question = answer.getQuestion();
-        User currentUser = SecurityUtil.getUser();
+        User currentUser = currentUserProvider.getUser();
         User selectUser = question.getUser();
 
         if (!currentUser.getUserid().equals(selectUser.getUserid())) {
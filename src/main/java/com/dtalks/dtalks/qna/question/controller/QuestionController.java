@@ -12,6 +12,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.MediaType;
@@ -42,6 +43,13 @@ public class QuestionController {
         return ResponseEntity.ok(questionService.searchAllQuestion(pageable));
     }
 
+    @Operation(summary = "모든 질문글 무한 스크롤 조회 (after = 이전 응답의 마지막 질문글 id, size 최대 50)")
+    @GetMapping("/scroll")
+    public ResponseEntity<Slice<QuestionResponseDto>> searchAllByCursor(@RequestParam(required = false) Long after,
+                                                                        @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(questionService.searchAllQuestionByCursor(after, Math.max(1, Math.min(size, 50))));
+    }
+
     @Operation(summary = "특정 유저의 질문글 조회")
     @GetMapping("/list/user/{userId}")
     public ResponseEntity<Page<QuestionResponseDto>> searchQuestionsByUser(@PathVariable String userId,
@@ -10,11 +10,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -82,35 +84,6 @@ public class Question extends BaseTimeEntity {
         this.content = content;
     }
 
-    public void updateViewCount(){
-        this.viewCount++;
-    }
-
-    public void updateRecommendCount(boolean like){
-        if(like){
-            this.recommendCount++;
-        }
-        else{
-            this.recommendCount--;
-        }
-    }
-
-    public void updateFavoriteCount(boolean scrap) {
-        if (scrap) {
-            this.favoriteCount++;
-        } else {
-            this.favoriteCount--;
-        }
-    }
-
-    public void plusAnswerCount() {
-        this.answerCount++;
-    }
-
-    public void minusAnswerCount() {
-        this.answerCount--;
-    }
-
     public void setThumbnailUrl(String thumbnailUrl){
         this.thumbnailUrl = thumbnailUrl;}
 
@@ -3,19 +3,67 @@ package com.dtalks.dtalks.qna.question.repository;
 import com.dtalks.dtalks.qna.question.entity.Question;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
+    @EntityGraph(attributePaths = {"user", "user.profileImage"})
+    Page<Question> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "user.profileImage"})
     Page<Question> findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(String keyword1, String keyword2, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"user", "user.profileImage"})
+    List<Question> findByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"user", "user.profileImage"})
     Page<Question> findAllByOrderByIdDesc(Pageable pageable);
 
-    Page<Question> findByUserId(Long id, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "user.profileImage"})
+    Slice<Question> findByIdLessThanOrderByIdDesc(Long id, Pageable pageable);
 
-    List<Question> findTop5ByCreateDateGreaterThanEqualOrderByRecommendCountDesc(LocalDateTime startDateTime);
+    @EntityGraph(attributePaths = {"user", "user.profileImage"})
+    Page<Question> findByUserId(Long id, Pageable pageable);
 
     List<Question> findByUserIdAndCreateDateBetween(Long userId, LocalDateTime goe, LocalDateTime loe);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Question q set q.recommendCount = q.recommendCount + :delta where q.id = :id")
+    int addRecommendCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Question q set q.favoriteCount = q.favoriteCount + :delta where q.id = :id")
+    int addFavoriteCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Question q set q.answerCount = q.answerCount + :delta where q.id = :id")
+    int addAnswerCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query("select q.id, q.createDate, q.recommendCount from Question q where q.createDate >= :start")
+    List<Object[]> findBestCandidates(@Param("start") LocalDateTime start);
+
+    @Query("select q.recommendCount from Question q where q.id = :id")
+    Integer findRecommendCountById(@Param("id") Long id);
+
+    @Query("select q.favoriteCount from Question q where q.id = :id")
+    Integer findFavoriteCountById(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "update question q set recommend_count = c.recommend_count, favorite_count = c.favorite_count, answer_count = c.answer_count " +
+            "from (select q2.id, " +
+            "(select count(*) from recommend_question r where r.question_id = q2.id) as recommend_count, " +
+            "(select count(*) from scrap_question s where s.question_id = q2.id) as favorite_count, " +
+            "(select count(*) from answer a where a.question_id = q2.id) as answer_count " +
+            "from question q2) c " +
+            "where q.id = c.id and (q.recommend_count <> c.recommend_count or q.favorite_count <> c.favorite_count or q.answer_count <> c.answer_count)",
+            nativeQuery = true)
+    int reconcileCounts();
 }
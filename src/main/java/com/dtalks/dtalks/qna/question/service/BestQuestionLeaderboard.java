@@ -0,0 +1,19 @@
+package com.dtalks.dtalks.qna.question.service;
+
+import com.dtalks.dtalks.base.component.WeeklyLeaderboard;
+import com.dtalks.dtalks.qna.question.dto.QuestionResponseDto;
+import com.dtalks.dtalks.qna.question.entity.Question;
+import com.dtalks.dtalks.qna.question.repository.QuestionRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이번 주 추천수 상위 5개 질문글 (추천이 없는 질문도 포함)
+ */
+@Component
+public class BestQuestionLeaderboard extends WeeklyLeaderboard<Question, QuestionResponseDto> {
+
+    public BestQuestionLeaderboard(QuestionRepository questionRepository) {
+        super(5, 0, questionRepository::findBestCandidates, questionRepository::findByIdIn,
+                Question::getId, QuestionResponseDto::toDto);
+    }
+}
@@ -5,12 +5,14 @@ import com.dtalks.dtalks.qna.question.dto.QuestionDto;
 import com.dtalks.dtalks.qna.question.dto.QuestionResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 public interface QuestionService {
     QuestionResponseDto searchById(Long id);
     Page<QuestionResponseDto> searchAllQuestion(Pageable pageable);
+    Slice<QuestionResponseDto> searchAllQuestionByCursor(Long after, int size);
     Page<QuestionResponseDto> searchQuestionsByUser(String userId, Pageable pageable);
     Page<QuestionResponseDto> searchByKeyword(String keyword, Pageable pageable);
     List<QuestionResponseDto> search5BestQuestions();
@@ -1,9 +1,11 @@
 package com.dtalks.dtalks.qna.question.service;
 
+import com.dtalks.dtalks.base.component.AttachmentUploader;
 import com.dtalks.dtalks.base.component.S3Uploader;
+import com.dtalks.dtalks.base.component.ViewCountBuffer;
+import com.dtalks.dtalks.base.dto.UploadedFile;
 import com.dtalks.dtalks.base.entity.Document;
 import com.dtalks.dtalks.base.repository.DocumentRepository;
-import com.dtalks.dtalks.base.validation.FileValidation;
 import com.dtalks.dtalks.board.post.dto.NewImageDto;
 import com.dtalks.dtalks.board.post.dto.OldImageDto;
 import com.dtalks.dtalks.board.post.dto.PutRequestDto;
@@ -15,20 +17,23 @@ import com.dtalks.dtalks.qna.question.repository.QuestionImageRepository;
 import com.dtalks.dtalks.qna.question.repository.QuestionRepository;
 import com.dtalks.dtalks.qna.question.dto.QuestionDto;
 import com.dtalks.dtalks.qna.question.dto.QuestionResponseDto;
+import com.dtalks.dtalks.search.enums.SearchTarget;
+import com.dtalks.dtalks.search.service.SearchIndexService;
+import com.dtalks.dtalks.search.service.SearchResults;
 import com.dtalks.dtalks.user.Util.SecurityUtil;
 import com.dtalks.dtalks.user.entity.User;
 import com.dtalks.dtalks.user.repository.UserRepository;
+import com.dtalks.dtalks.user.service.CurrentUserProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -39,15 +44,20 @@ public class QuestionServiceImpl implements QuestionService {
     private final DocumentRepository documentRepository;
     private final QuestionImageRepository imageRepository;
     private final S3Uploader s3Uploader;
+    private final AttachmentUploader attachmentUploader;
+    private final ViewCountBuffer viewCountBuffer;
+    private final SearchIndexService searchIndexService;
+    private final BestQuestionLeaderboard bestQuestionLeaderboard;
+    private final CurrentUserProvider currentUserProvider;
     private final String imagePath = "questions";
 
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public QuestionResponseDto searchById(Long questionId) {
         Question question = findQuestion(questionId);
 
-        question.updateViewCount();
+        viewCountBuffer.increaseQuestionViewCount(questionId);
 
         List<QuestionImage> imageList = imageRepository.findByQuestionIdOrderByOrderNum(questionId);
         List<String> urls = new ArrayList<>();
@@ -59,6 +69,7 @@ public class QuestionServiceImpl implements QuestionService {
         }
         QuestionResponseDto questionResponseDto = QuestionResponseDto.toDto(question);
         questionResponseDto.setImageUrls(urls);
+        questionResponseDto.setViewCount(question.getViewCount() + viewCountBuffer.pendingQuestionViewCount(questionId));
 
         return questionResponseDto;
     }
@@ -70,6 +81,14 @@ public class QuestionServiceImpl implements QuestionService {
         return questionPage.map(QuestionResponseDto::toDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<QuestionResponseDto> searchAllQuestionByCursor(Long after, int size) {
+        Long cursor = after == null ? Long.MAX_VALUE : after;
+        Slice<Question> questions = questionRepository.findByIdLessThanOrderByIdDesc(cursor, PageRequest.ofSize(size));
+        return questions.map(QuestionResponseDto::toDto);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<QuestionResponseDto> searchQuestionsByUser(String userId, Pageable pageable) {
@@ -86,42 +105,34 @@ public class QuestionServiceImpl implements QuestionService {
     @Override
     @Transactional(readOnly = true)
     public Page<QuestionResponseDto> searchByKeyword(String keyword, Pageable pageable) {
-        Page<Question> questionPage = questionRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(keyword, keyword, pageable);
-        if (questionPage.isEmpty()) {
+        Page<Long> ids = searchIndexService.search(SearchTarget.QUESTION, keyword, pageable);
+        if (ids.isEmpty()) {
             throw new CustomException(ErrorCode.POST_NOT_FOUND_ERROR, "해당하는 질문글이 존재하지 않습니다. ");
         }
-        return questionPage.map(QuestionResponseDto::toDto);
+        return SearchResults.toPage(ids, questionRepository::findByIdIn, Question::getId, QuestionResponseDto::toDto);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<QuestionResponseDto> search5BestQuestions() {
-        LocalDateTime startDateTime = LocalDateTime.now().minusDays(7).withHour(0).withMinute(0).withSecond(0);
-        List<Question> top5Questions = questionRepository.findTop5ByCreateDateGreaterThanEqualOrderByRecommendCountDesc(startDateTime);
-        return top5Questions.stream().map(QuestionResponseDto::toDto).toList();
+        return bestQuestionLeaderboard.getTop();
     }
 
+    // 첨부 이미지는 트랜잭션 밖에서 먼저 올리고, 트랜잭션이 롤백되면 올린 파일을 지운다.
     @Override
-    @Transactional
     public Long createQuestion(QuestionDto questionDto) {
+        List<UploadedFile> uploadedFiles = attachmentUploader.uploadAll(questionDto.getFiles(), imagePath);
+        return attachmentUploader.executeInTransaction(uploadedFiles, status -> {
+            User user = currentUserProvider.getUser();
+            Question question = Question.toEntity(questionDto, user);
+            questionRepository.save(question);
+            searchIndexService.index(SearchTarget.QUESTION, question.getId(), question.getTitle(), question.getContent());
+            bestQuestionLeaderboard.updateRecommendCount(question.getId(), question.getCreateDate(), 0);
 
-        User user = SecurityUtil.getUser();
-        Question question = Question.toEntity(questionDto, user);
-        questionRepository.save(question);
-
-        List<MultipartFile> files = questionDto.getFiles();
-        if (files != null) {
             Long orderNum = 1L;
             boolean setThumbnail = false;
-            for (MultipartFile file : files) {
-                FileValidation.imageValidation(file.getOriginalFilename());
-                String path = S3Uploader.createFilePath(file.getOriginalFilename(), imagePath);
-
-                Document document = Document.builder()
-                        .inputName(file.getOriginalFilename())
-                        .url(s3Uploader.fileUpload(file, path))
-                        .path(path)
-                        .build();
+            for (UploadedFile uploadedFile : uploadedFiles) {
+                Document document = uploadedFile.toDocument();
                 documentRepository.save(document);
 
                 if (!setThumbnail) {
@@ -136,21 +147,37 @@ public class QuestionServiceImpl implements QuestionService {
                         .build();
                 imageRepository.save(questionImage);
             }
-        }
-        return question.getId();
+            return question.getId();
+        });
     }
 
     @Override
-    @Transactional
     public Long updateQuestion(Long questionId, PutRequestDto putRequestDto) {
-        Question question = findQuestion(questionId);
+        // 수정 권한이 없는 요청이 파일부터 올리지 않도록 업로드 전에 작성자를 확인한다.
+        checkWriter(findQuestion(questionId));
 
-        String userId = question.getUser().getUserid();
-        if (!userId.equals(SecurityUtil.getUser().getUserid())) {
-            throw new CustomException(ErrorCode.PERMISSION_NOT_GRANTED_ERROR, "해당 질문글을 수정할 수 있는 권한이 없습니다. ");
+        List<NewImageDto> files = putRequestDto.getFiles();
+        List<UploadedFile> uploadedFiles = attachmentUploader.uploadAll(
+                files == null ? null : files.stream().map(NewImageDto::getFile).toList(), imagePath);
+
+        List<String> deletableUrls = attachmentUploader.executeInTransaction(uploadedFiles,
+                status -> updateQuestionAndImages(questionId, putRequestDto, uploadedFiles));
+
+        // 커밋된 뒤에 더 이상 쓰지 않는 이미지를 지운다.
+        for (String url : deletableUrls) {
+            s3Uploader.deleteFile(url);
         }
+
+        return questionId;
+    }
+
+    // 삭제된 기존 이미지의 S3 경로를 돌려준다.
+    private List<String> updateQuestionAndImages(Long questionId, PutRequestDto putRequestDto, List<UploadedFile> uploadedFiles) {
+        Question question = findQuestion(questionId);
+        checkWriter(question);
         //제목, 내용 update
         question.update(putRequestDto.getTitle(), putRequestDto.getContent());
+        searchIndexService.index(SearchTarget.QUESTION, questionId, question.getTitle(), question.getContent());
 
         List<OldImageDto> imgUrls = putRequestDto.getImgUrls();
         List<NewImageDto> files = putRequestDto.getFiles();
@@ -185,28 +212,16 @@ public class QuestionServiceImpl implements QuestionService {
             }
         }
 
-        if (files != null) {
-            for (NewImageDto newImage : files) {
-                MultipartFile file = newImage.getFile();
-                FileValidation.imageValidation(file.getOriginalFilename());
-                String path = S3Uploader.createFilePath(file.getOriginalFilename(), imagePath);
-
-                Document document = Document.builder()
-                        .inputName(file.getOriginalFilename())
-                        .url(s3Uploader.fileUpload(file, path))
-                        .path(path)
-                        .build();
-                documentRepository.save(document);
-
-
+        for (int i = 0; i < uploadedFiles.size(); i++) {
+            Document document = uploadedFiles.get(i).toDocument();
+            documentRepository.save(document);
 
-                QuestionImage questionImage = QuestionImage.builder()
-                        .question(question)
-                        .document(document)
-                        .orderNum(newImage.getOrderNum())
-                        .build();
-                imageRepository.save(questionImage);
-            }
+            QuestionImage questionImage = QuestionImage.builder()
+                    .question(question)
+                    .document(document)
+                    .orderNum(files.get(i).getOrderNum())
+                    .build();
+            imageRepository.save(questionImage);
         }
 
         String thumbnail = null;
@@ -217,11 +232,7 @@ public class QuestionServiceImpl implements QuestionService {
         }
         question.setThumbnailUrl(thumbnail);
 
-        for (String url : deletableUrls) {
-            s3Uploader.deleteFile(url);
-        }
-
-        return questionId;
+        return deletableUrls;
     }
 
     @Override
@@ -233,7 +244,7 @@ public class QuestionServiceImpl implements QuestionService {
             throw new CustomException(ErrorCode.DELETE_NOT_PERMITTED_ERROR, "답변이 달린 질문은 삭제할 수 없습니다. ");
         }
         String userId = question.getUser().getUserid();
-        if (!userId.equals(SecurityUtil.getUser().getUserid())) {
+        if (!userId.equals(currentUserProvider.getUser().getUserid())) {
             throw new CustomException(ErrorCode.PERMISSION_NOT_GRANTED_ERROR, "해당 질문글을 삭제할 수 있는 권한이 없습니다. ");
         }
 
@@ -243,6 +254,14 @@ public class QuestionServiceImpl implements QuestionService {
         }
 
         questionRepository.delete(question);
+        searchIndexService.remove(SearchTarget.QUESTION, questionId);
+        bestQuestionLeaderboard.remove(questionId);
+    }
+
+    private void checkWriter(Question question) {
+        if (question.getUser().getId() != SecurityUtil.getPrincipal().getId()) {
+            throw new CustomException(ErrorCode.PERMISSION_NOT_GRANTED_ERROR, "해당 질문글을 수정할 수 있는 권한이 없습니다. ");
+        }
     }
 
     @Transactional(readOnly = true)
@@ -7,9 +7,9 @@ import com.dtalks.dtalks.qna.question.entity.Question;
 import com.dtalks.dtalks.qna.question.entity.ScrapQuestion;
 import com.dtalks.dtalks.qna.question.repository.QuestionRepository;
 import com.dtalks.dtalks.qna.question.repository.ScrapQuestionRepository;
-import com.dtalks.dtalks.user.Util.SecurityUtil;
 import com.dtalks.dtalks.user.entity.User;
 import com.dtalks.dtalks.user.repository.UserRepository;
+import com.dtalks.dtalks.user.service.CurrentUserProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -30,6 +30,7 @@ public class ScrapQuestionServiceImpl implements ScrapQuestionService {
     private final UserRepository userRepository;
 
     private final QuestionRepository questionRepository;
+    private final CurrentUserProvider currentUserProvider;
 
 
     @Override
@@ -40,10 +41,10 @@ public class ScrapQuestionServiceImpl implements ScrapQuestionService {
             throw new CustomException(ErrorCode.POST_NOT_FOUND_ERROR, "존재하지 않는 질문글입니다.");
         }
 
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         Question question = optionalQuestion.get();
 
-        if (user == question.getUser()) {
+        if (user.getId() == question.getUser().getId()) {
             throw new CustomException(ErrorCode.PERMISSION_NOT_GRANTED_ERROR, "작성한 글에는 즐겨찾기가 불가능합니다.");
         }
         Optional<ScrapQuestion> optionalScrapQuestion = scrapQuestionRepository.findByQuestionIdAndUserId(question.getId(), user.getId());
@@ -53,8 +54,8 @@ public class ScrapQuestionServiceImpl implements ScrapQuestionService {
         ScrapQuestion scrapQuestion = ScrapQuestion.toEntity(question, user);
         scrapQuestionRepository.save(scrapQuestion);
 
-        question.updateFavoriteCount(true);
-        return question.getFavoriteCount();
+        questionRepository.addFavoriteCount(questionId, 1);
+        return questionRepository.findFavoriteCountById(questionId);
     }
 
     @Override
@@ -65,7 +66,7 @@ public class ScrapQuestionServiceImpl implements ScrapQuestionService {
             throw new CustomException(ErrorCode.POST_NOT_FOUND_ERROR, "존재하지 않는 질문글입니다.");
         }
 
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         Question question = optionalQuestion.get();
 
         Optional<ScrapQuestion> optionalScrapQuestion = scrapQuestionRepository.findByQuestionIdAndUserId(question.getId(), user.getId());
@@ -76,8 +77,8 @@ public class ScrapQuestionServiceImpl implements ScrapQuestionService {
         ScrapQuestion scrapQuestion = optionalScrapQuestion.get();
         scrapQuestionRepository.delete(scrapQuestion);
 
-        question.updateFavoriteCount(false);
-        return question.getFavoriteCount();
+        questionRepository.addFavoriteCount(questionId, -1);
+        return questionRepository.findFavoriteCountById(questionId);
     }
 
     @Override
@@ -93,7 +94,7 @@ public class ScrapQuestionServiceImpl implements ScrapQuestionService {
 
     @Override
     public boolean checkScrap(Long questionId) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         return scrapQuestionRepository.existsByQuestionIdAndUserId(questionId, user.getId());
     }
 
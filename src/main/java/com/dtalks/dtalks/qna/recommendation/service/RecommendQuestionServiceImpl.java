@@ -3,16 +3,15 @@ package com.dtalks.dtalks.qna.recommendation.service;
 import com.dtalks.dtalks.exception.ErrorCode;
 import com.dtalks.dtalks.exception.exception.CustomException;
 import com.dtalks.dtalks.notification.dto.NotificationRequestDto;
-import com.dtalks.dtalks.notification.entity.Notification;
 import com.dtalks.dtalks.notification.enums.NotificationType;
-import com.dtalks.dtalks.notification.enums.ReadStatus;
-import com.dtalks.dtalks.notification.repository.NotificationRepository;
+import com.dtalks.dtalks.notification.service.NotificationService;
 import com.dtalks.dtalks.qna.question.entity.Question;
 import com.dtalks.dtalks.qna.question.repository.QuestionRepository;
+import com.dtalks.dtalks.qna.question.service.BestQuestionLeaderboard;
 import com.dtalks.dtalks.qna.recommendation.entitiy.RecommendQuestion;
 import com.dtalks.dtalks.qna.recommendation.repository.RecommendQuestionRepository;
-import com.dtalks.dtalks.user.Util.SecurityUtil;
 import com.dtalks.dtalks.user.entity.User;
+import com.dtalks.dtalks.user.service.CurrentUserProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
@@ -26,10 +25,12 @@ import java.util.Optional;
 public class RecommendQuestionServiceImpl implements RecommendQuestionService {
     private final RecommendQuestionRepository recommendQuestionRepository;
     private final QuestionRepository questionRepository;
-    private final NotificationRepository notificationRepository;
+    private final BestQuestionLeaderboard bestQuestionLeaderboard;
+    private final NotificationService notificationService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     private final MessageSource messageSource;
+    private final CurrentUserProvider currentUserProvider;
 
     @Override
     @Transactional
@@ -40,7 +41,7 @@ public class RecommendQuestionServiceImpl implements RecommendQuestionService {
         }
 
         Question question = optionalQuestion.get();
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
 
         if(recommendQuestionRepository.existsByUserIdAndQuestionId(user.getId(),questionId)){
             throw new CustomException(ErrorCode.RECOMMENDATION_ALREADY_EXIST_ERROR, "이미 해당 질문글을 추천하였습니다. ");
@@ -49,13 +50,15 @@ public class RecommendQuestionServiceImpl implements RecommendQuestionService {
         RecommendQuestion recommendQuestion = RecommendQuestion.toEntity(user, question);
         recommendQuestionRepository.save(recommendQuestion);
 
-        question.updateRecommendCount(true);
+        questionRepository.addRecommendCount(questionId, 1);
 
         if (question.getUser().getIsActive()) {
             applicationEventPublisher.publishEvent(NotificationRequestDto.toDto(recommendQuestion.getId(), question.getId(), question.getUser(),
                     NotificationType.RECOMMEND_QUESTION, messageSource.getMessage("notification.question.recommend", new Object[]{question.getTitle()}, null)));
         }
-        return question.getRecommendCount();
+        Integer recommendCount = questionRepository.findRecommendCountById(questionId);
+        bestQuestionLeaderboard.updateRecommendCount(questionId, question.getCreateDate(), recommendCount);
+        return recommendCount;
     }
 
     @Override
@@ -67,33 +70,29 @@ public class RecommendQuestionServiceImpl implements RecommendQuestionService {
         }
 
         Question question = optionalQuestion.get();
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
 
         if(!recommendQuestionRepository.existsByUserIdAndQuestionId(user.getId(),questionId)){
             throw new CustomException(ErrorCode.RECOMMENDATION_NOT_FOUND_ERROR, "해당 질문글을 추천한 적이 없습니다 . ");
         }
 
-        question.updateRecommendCount(false);
+        questionRepository.addRecommendCount(questionId, -1);
         RecommendQuestion recommendQuestion = recommendQuestionRepository.findByQuestionId(questionId);
 
         recommendQuestionRepository.deleteByUserAndQuestion(user, question);
 
         if (question.getUser().getIsActive()) {
-            Notification notification = notificationRepository.findByRefIdAndType(recommendQuestion.getId(), NotificationType.RECOMMEND_QUESTION)
-                    .orElseThrow(() -> new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND_ERROR, "해당하는 알림이 존재하지 않습니다."));
-            if (notification.getReadStatus().equals(ReadStatus.READ)) {
-                notification.readDataDeleteSetting();
-            } else {
-                notificationRepository.deleteById(notification.getId());
-            }
+            notificationService.deleteByRefIdAndType(recommendQuestion.getId(), NotificationType.RECOMMEND_QUESTION);
         }
 
-        return question.getRecommendCount();
+        Integer recommendCount = questionRepository.findRecommendCountById(questionId);
+        bestQuestionLeaderboard.updateRecommendCount(questionId, question.getCreateDate(), recommendCount);
+        return recommendCount;
     }
 
     @Override
     public boolean checkRecommend(Long questionId) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         return recommendQuestionRepository.existsByUserIdAndQuestionId(user.getId(), questionId);
     }
 
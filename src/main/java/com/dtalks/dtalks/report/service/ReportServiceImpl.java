@@ -13,10 +13,10 @@ import com.dtalks.dtalks.report.enums.ReportType;
 import com.dtalks.dtalks.report.enums.ResultType;
 import com.dtalks.dtalks.report.repository.ReportedPostRepository;
 import com.dtalks.dtalks.report.repository.ReportedUserRepository;
-import com.dtalks.dtalks.user.Util.SecurityUtil;
 import com.dtalks.dtalks.user.entity.User;
 import com.dtalks.dtalks.user.enums.ActiveStatus;
 import com.dtalks.dtalks.user.repository.UserRepository;
+import com.dtalks.dtalks.user.service.CurrentUserProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
@@ -33,11 +33,12 @@ public class ReportServiceImpl implements ReportService {
     private final ReportedPostRepository reportedPostRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final MessageSource messageSource;
+    private final CurrentUserProvider currentUserProvider;
 
     @Override
     @Transactional
     public void reportUser(String nickname, ReportDetailRequestDto dto) {
-        User reportUser = SecurityUtil.getUser();
+        User reportUser = currentUserProvider.getUser();
         User reportedUser = userRepository.findByNickname(nickname).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_ERROR, "해당하는 사용자를 찾을 수 없습니다."));
 
         if (!reportedUser.getIsActive()) {
@@ -69,7 +70,7 @@ public class ReportServiceImpl implements ReportService {
     @Override
     @Transactional
     public void reportPost(Long id, ReportDetailRequestDto dto) {
-        User reportUser = SecurityUtil.getUser();
+        User reportUser = currentUserProvider.getUser();
         Post post = postRepository.findById(id).orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND_ERROR, "해당 게시글이 존재하지 않습니다."));
 
         boolean postExists = reportedPostRepository.existsByProcessedFalseAndDtypeAndReportUserIdAndPostId("POST", reportUser.getId(), id);
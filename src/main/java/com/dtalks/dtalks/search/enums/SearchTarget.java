@@ -0,0 +1,5 @@
+package com.dtalks.dtalks.search.enums;
+
+public enum SearchTarget {
+    POST, QUESTION, STUDY_ROOM
+}
@@ -0,0 +1,19 @@
+package com.dtalks.dtalks.search.service;
+
+import com.dtalks.dtalks.search.enums.SearchTarget;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface SearchIndexService {
+
+    void index(SearchTarget target, Long id, String title, String content);
+
+    void remove(SearchTarget target, Long id);
+
+    /**
+     * 관련도(ts_rank) 순으로 정렬된 대상 id 페이지를 돌려준다.
+     */
+    Page<Long> search(SearchTarget target, String keyword, Pageable pageable);
+
+    int rebuild(SearchTarget target);
+}
@@ -0,0 +1,89 @@
+package com.dtalks.dtalks.search.service;
+
+import com.dtalks.dtalks.search.enums.SearchTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글/질문글/스터디룸의 제목과 본문을 search_document 테이블의 tsvector(GIN 인덱스)로 관리한다.
+ * 색인은 JdbcTemplate 으로 쓰기 때문에 호출한 서비스의 트랜잭션에 함께 묶인다.
+ * 테이블과 기존 데이터 색인은 db/migration(V3, R__rebuild_search_document)에서 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchIndexServiceImpl implements SearchIndexService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL = "insert into search_document (target_type, target_id, document) values (?, ?, ?::tsvector) " +
+            "on conflict (target_type, target_id) do update set document = excluded.document";
+    private static final String DELETE_SQL = "delete from search_document where target_type = ? and target_id = ?";
+    private static final String SEARCH_SQL = "select d.target_id from search_document d, cast(? as tsquery) q " +
+            "where d.target_type = ? and d.document @@ q order by ts_rank(d.document, q) desc, d.target_id desc limit ? offset ?";
+    private static final String COUNT_SQL = "select count(*) from search_document where target_type = ? and document @@ cast(? as tsquery)";
+
+    private static final Map<SearchTarget, String> SOURCE_SQL = Map.of(
+            SearchTarget.POST, "select id, title, content from post where forbidden = false",
+            SearchTarget.QUESTION, "select id, title, content from question",
+            SearchTarget.STUDY_ROOM, "select id, title, content from study_room"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void index(SearchTarget target, Long id, String title, String content) {
+        jdbcTemplate.update(UPSERT_SQL, target.name(), id, SearchTokenizer.toDocument(title, content));
+    }
+
+    @Override
+    public void remove(SearchTarget target, Long id) {
+        jdbcTemplate.update(DELETE_SQL, target.name(), id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Long> search(SearchTarget target, String keyword, Pageable pageable) {
+        String query = SearchTokenizer.toQuery(keyword);
+        if (query == null) {
+            return Page.empty(pageable);
+        }
+
+        List<Long> ids = jdbcTemplate.queryForList(SEARCH_SQL, Long.class,
+                query, target.name(), pageable.getPageSize(), pageable.getOffset());
+        Long total = jdbcTemplate.queryForObject(COUNT_SQL, Long.class, target.name(), query);
+        return new PageImpl<>(ids, pageable, total == null ? 0 : total);
+    }
+
+    @Override
+    @Transactional
+    public int rebuild(SearchTarget target) {
+        jdbcTemplate.update("delete from search_document where target_type = ?", target.name());
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        int[] count = {0};
+        jdbcTemplate.query(SOURCE_SQL.get(target), (RowCallbackHandler) rs -> {
+            batch.add(new Object[]{target.name(), rs.getLong("id"),
+                    SearchTokenizer.toDocument(rs.getString("title"), rs.getString("content"))});
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+                count[0] += batch.size();
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+            count[0] += batch.size();
+        }
+        return count[0];
+    }
+}
@@ -0,0 +1,35 @@
+package com.dtalks.dtalks.search.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 색인이 돌려준 id 페이지를 엔티티로 읽어, 관련도 순서를 유지한 응답 페이지로 바꾼다.
+ */
+public final class SearchResults {
+
+    private SearchResults() {
+    }
+
+    // 색인 이후 지워졌거나 조회 조건에서 빠진 엔티티는 결과에서 뺀다.
+    public static <E, D> Page<D> toPage(Page<Long> ids,
+                                        Function<Collection<Long>, List<E>> loader,
+                                        Function<E, Long> idOf,
+                                        Function<E, D> toDto) {
+        Map<Long, E> entities = loader.apply(ids.getContent()).stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+        List<D> content = ids.getContent().stream()
+                .map(entities::get)
+                .filter(Objects::nonNull)
+                .map(toDto)
+                .toList();
+        return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
+    }
+}
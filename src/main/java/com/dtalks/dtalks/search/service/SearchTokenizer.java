@@ -0,0 +1,110 @@
+package com.dtalks.dtalks.search.service;
+
+import org.jsoup.Jsoup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한국어처럼 띄어쓰기만으로 단어를 나눌 수 없는 글을 위해 글자/숫자 덩어리를 2-gram 으로 나눈다.
+ * 결과는 PostgreSQL tsvector / tsquery 리터럴로 만들어지며, 검색어의 2-gram 들을 위치가 연속된
+ * 구문(&lt;-&gt;)으로 찾기 때문에 기존 LIKE '%검색어%' 와 같은 부분 문자열 검색이 된다.
+ * 덩어리의 마지막 글자는 어떤 2-gram 의 첫 글자도 아니므로 따로 1-gram 을 붙여, 한 글자 검색('링':*)도 찾을 수 있게 한다.
+ */
+public final class SearchTokenizer {
+
+    // 색인 형식이 바뀌면 올린다. db/migration 의 R__rebuild_search_document 가 색인을 다시 만든다.
+    public static final int VERSION = 2;
+
+    // tsvector 의 최대 위치값
+    private static final int MAX_POSITION = 16383;
+    private static final int MAX_TEXT_LENGTH = 10000;
+    // 띄어쓰기로 나뉜 덩어리끼리, 제목과 본문끼리 위치가 이어지지 않도록 비워 두는 간격
+    private static final int RUN_GAP = 1;
+    private static final int FIELD_GAP = 2;
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 제목은 가중치 A, 본문은 기본 가중치(D)로 하나의 tsvector 리터럴을 만든다.
+     */
+    public static String toDocument(String title, String content) {
+        StringBuilder document = new StringBuilder();
+        int position = appendDocument(document, title, 1, "A");
+        appendDocument(document, content == null ? null : Jsoup.parse(content).text(), position + FIELD_GAP, "");
+        return document.toString();
+    }
+
+    /**
+     * 검색어를 tsquery 리터럴로 만든다. 검색할 글자가 없으면 null.
+     */
+    public static String toQuery(String keyword) {
+        List<String> phrases = new ArrayList<>();
+        for (String run : runs(keyword)) {
+            if (run.length() == 1) {
+                phrases.add("'" + run + "':*");
+                continue;
+            }
+            List<String> grams = new ArrayList<>();
+            for (String gram : bigrams(run)) {
+                grams.add("'" + gram + "'");
+            }
+            phrases.add("(" + String.join(" <-> ", grams) + ")");
+        }
+        return phrases.isEmpty() ? null : String.join(" & ", phrases);
+    }
+
+    private static int appendDocument(StringBuilder document, String text, int position, String weight) {
+        for (String run : runs(text)) {
+            // 한 글자 덩어리는 2-gram 이 없으므로 그 글자만 남는다.
+            List<String> grams = bigrams(run);
+            grams.add(run.substring(run.length() - 1));
+            for (String gram : grams) {
+                if (position > MAX_POSITION) {
+                    return position;
+                }
+                if (!document.isEmpty()) {
+                    document.append(' ');
+                }
+                document.append('\'').append(gram).append("':").append(position++).append(weight);
+            }
+            position += RUN_GAP;
+        }
+        return position;
+    }
+
+    // 글자/숫자가 아닌 문자를 기준으로 소문자 덩어리를 나눈다. 따옴표 등은 모두 제거되므로 리터럴에 그대로 넣어도 안전하다.
+    private static List<String> runs(String text) {
+        List<String> runs = new ArrayList<>();
+        if (text == null) {
+            return runs;
+        }
+        String normalized = text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) : text;
+        normalized = normalized.toLowerCase(Locale.ROOT);
+
+        StringBuilder run = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                run.append(c);
+            } else if (!run.isEmpty()) {
+                runs.add(run.toString());
+                run.setLength(0);
+            }
+        }
+        if (!run.isEmpty()) {
+            runs.add(run.toString());
+        }
+        return runs;
+    }
+
+    private static List<String> bigrams(String run) {
+        List<String> grams = new ArrayList<>(run.length());
+        for (int i = 0; i + 2 <= run.length(); i++) {
+            grams.add(run.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,45 @@
+package com.dtalks.dtalks.studyroom.config;
+
+import com.dtalks.dtalks.studyroom.service.RedisChatBroadcaster;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * dtalks.chat.broker.mode=redis 일 때 다른 서버에서 발행한 채팅을 받아오는 리스너 설정.
+ * 수신 처리는 단일 스레드로 해 채팅방 내 메세지 순서를 유지하고,
+ * 큐가 가득 차면 호출 스레드에서 처리해 Redis 구독 쪽으로 배압을 건다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "dtalks.chat.broker.mode", havingValue = "redis")
+public class ChatRelayConfiguration {
+
+    @Bean
+    public ThreadPoolTaskExecutor chatRelayExecutor(@Value("${dtalks.chat.relay.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ChatRelay-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer chatRelayListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                    RedisChatBroadcaster redisChatBroadcaster,
+                                                                    ThreadPoolTaskExecutor chatRelayExecutor) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setTaskExecutor(chatRelayExecutor);
+        container.addMessageListener(redisChatBroadcaster, new PatternTopic(RedisChatBroadcaster.CHANNEL_PATTERN));
+        return container;
+    }
+}
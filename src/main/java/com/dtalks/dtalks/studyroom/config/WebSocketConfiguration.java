@@ -2,9 +2,13 @@ package com.dtalks.dtalks.studyroom.config;
 
 import com.dtalks.dtalks.studyroom.handler.StompHandler;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.*;
 
 @RequiredArgsConstructor
@@ -14,6 +18,29 @@ public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer
 
     private final StompHandler stompHandler;
 
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    @Value("${dtalks.chat.heartbeat-ms:10000}")
+    private long heartbeatMillis;
+
+    // 느린 클라이언트 한 명이 서버 메모리를 잡아두지 않도록 세션별 전송 한도를 둔다.
+    @Value("${dtalks.chat.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${dtalks.chat.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${dtalks.chat.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${dtalks.chat.outbound-pool-size:8}")
+    private int outboundPoolSize;
+
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws/chat").setAllowedOriginPatterns("*")
@@ -23,13 +50,28 @@ public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 구독자 클라이언트들에게 메세지 보낼때
-        registry.enableSimpleBroker("/sub");
+        // 다중 서버에서는 RedisChatBroadcaster 가 각 서버의 simple broker 로 메세지를 전달한다.
+        registry.enableSimpleBroker("/sub")
+                .setHeartbeatValue(new long[]{heartbeatMillis, heartbeatMillis})
+                .setTaskScheduler(messageBrokerTaskScheduler);
         // 클라이언트에서 보낸 메세지 받을때
         registry.setApplicationDestinationPrefixes("/pub");
     }
 
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
+
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompHandler);
     }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor().corePoolSize(outboundPoolSize).maxPoolSize(outboundPoolSize);
+    }
 }
@@ -1,47 +1,52 @@
 package com.dtalks.dtalks.studyroom.controller;
 
+import com.dtalks.dtalks.exception.dto.ErrorResponseDto;
+import com.dtalks.dtalks.exception.exception.CustomException;
 import com.dtalks.dtalks.studyroom.dto.ChatMessageDto;
 import com.dtalks.dtalks.studyroom.dto.ChatMessageRequestDto;
+import com.dtalks.dtalks.studyroom.service.ChatBroadcaster;
 import com.dtalks.dtalks.studyroom.service.ChatService;
-import com.dtalks.dtalks.user.entity.User;
+import com.dtalks.dtalks.user.dto.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDateTime;
-
 @Slf4j
 @RequiredArgsConstructor
 @RestController
 public class ChatController {
 
     private final ChatService chatService;
-    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final ChatBroadcaster chatBroadcaster;
 
     @MessageMapping("/rooms/{chatRoomId}")
     public void message(@DestinationVariable Long chatRoomId, ChatMessageRequestDto chatMessageRequestDto, StompHeaderAccessor stompHeaderAccessor) {
         Authentication authentication = (Authentication) stompHeaderAccessor.getUser();
-        User user = (User) authentication.getPrincipal();
-        log.info("채팅: " + chatMessageRequestDto.getMessage() + " " + authentication.getName() + " " + user.getNickname());
-        ChatMessageDto chatMessageDto = ChatMessageDto.builder()
-                .id(chatRoomId)
-                .message(chatMessageRequestDto.getMessage())
-                .sender(user.getNickname())
-                .createDate(LocalDateTime.now())
-                .build();
-        simpMessagingTemplate.convertAndSend("/sub/rooms/" + chatRoomId, chatMessageDto);
+        UserPrincipal user = (UserPrincipal) authentication.getPrincipal();
+        ChatMessageDto chatMessageDto = chatService.sendChatMessage(chatRoomId, chatMessageRequestDto.getMessage(), user);
+        chatBroadcaster.broadcast(chatRoomId, chatMessageDto);
+    }
+
+    // 메세지를 보낸 세션에만 오류를 돌려준다. 클라이언트는 /user/sub/errors 를 구독한다.
+    @MessageExceptionHandler(CustomException.class)
+    @SendToUser(destinations = "/sub/errors", broadcast = false)
+    public ErrorResponseDto handleMessageException(CustomException exception) {
+        log.info("[ChatController] - 채팅 전송 실패: {}", exception.getMessage());
+        return new ErrorResponseDto(exception.getErrorCode(), exception.getMessage());
     }
 
     @Operation(summary = "채팅 가져오기")
@@ -52,4 +57,14 @@ public class ChatController {
             ) {
         return ResponseEntity.ok(chatService.findAllChat(chatRoomId, pageable));
     }
+
+    @Operation(summary = "채팅 이전 기록 가져오기", description = "before 에 마지막으로 받은 메세지 id 를 넘기면 그보다 이전 메세지를 최신순으로 limit 개 가져온다. before 를 생략하면 가장 최근부터 가져온다.")
+    @GetMapping("/{chatRoomId}/chats/history")
+    public ResponseEntity<Slice<ChatMessageDto>> history(
+            @PathVariable Long chatRoomId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return ResponseEntity.ok(chatService.findChatHistory(chatRoomId, before, Math.max(1, Math.min(limit, 100))));
+    }
 }
@@ -14,6 +14,7 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
@@ -59,6 +60,16 @@ public class StudyRoomController {
         return ResponseEntity.ok(studyRoomService.getStudyRooms(search, pageable));
     }
 
+    @Operation(summary = "스터디룸 리스트 무한 스크롤 조회", description = "after 에 이전 응답의 마지막 스터디룸 id 를 넘긴다. count 쿼리 없이 id 내림차순으로 가져온다.")
+    @GetMapping("/scroll")
+    public ResponseEntity<Slice<StudyRoomResponseDto>> findAllByCursor(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "") String search
+    ) {
+        return ResponseEntity.ok(studyRoomService.getStudyRoomsByCursor(search, after, Math.max(1, Math.min(size, 50))));
+    }
+
     @Operation(summary = "스터디룸 수정")
     @PutMapping("/{id}")
     public ResponseEntity<StudyRoomResponseDto> updateStudyRoom(@PathVariable Long id,
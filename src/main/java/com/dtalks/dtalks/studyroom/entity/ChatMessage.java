@@ -7,12 +7,15 @@ import lombok.Getter;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = @Index(name = "idx_chat_message_chat_room_id_id", columnList = "chat_room_id, id"))
 @Getter
 @Setter
 public class ChatMessage extends BaseTimeEntity {
 
+    // ChatMessageWriter 가 배치 insert 시 같은 시퀀스에서 id 를 미리 받아온다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chat_message_seq_generator")
+    @SequenceGenerator(name = "chat_message_seq_generator", sequenceName = "chat_message_seq", allocationSize = 1)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
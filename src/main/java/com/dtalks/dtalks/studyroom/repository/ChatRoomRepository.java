@@ -2,6 +2,13 @@ package com.dtalks.dtalks.studyroom.repository;
 
 import com.dtalks.dtalks.studyroom.entity.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
+
+    @Query("select c.studyRoom.id from ChatRoom c where c.id = :chatRoomId")
+    Optional<Long> findStudyRoomIdById(@Param("chatRoomId") Long chatRoomId);
 }
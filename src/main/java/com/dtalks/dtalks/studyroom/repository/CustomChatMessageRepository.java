@@ -0,0 +1,50 @@
+package com.dtalks.dtalks.studyroom.repository;
+
+import com.dtalks.dtalks.studyroom.dto.ChatMessageDto;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.dtalks.dtalks.studyroom.entity.QChatMessage.chatMessage;
+import static com.dtalks.dtalks.user.entity.QUser.user;
+
+@Repository
+public class CustomChatMessageRepository {
+
+    private JPAQueryFactory jpaQueryFactory;
+
+    public CustomChatMessageRepository(JPAQueryFactory jpaQueryFactory) {
+        this.jpaQueryFactory = jpaQueryFactory;
+    }
+
+    /**
+     * (chat_room_id, id) 인덱스를 타는 keyset 조회. before 보다 작은 id 를 최신순으로 limit 개 가져오며 count 쿼리는 없다.
+     */
+    public Slice<ChatMessageDto> findHistory(Long chatRoomId, Long before, int limit) {
+        List<ChatMessageDto> content = jpaQueryFactory
+                .select(Projections.constructor(ChatMessageDto.class,
+                        chatMessage.id, user.nickname, chatMessage.message, chatMessage.createDate))
+                .from(chatMessage)
+                .join(chatMessage.sender, user)
+                .where(chatMessage.chatRoom.id.eq(chatRoomId), idLt(before))
+                .orderBy(chatMessage.id.desc())
+                .limit(limit + 1)
+                .fetch();
+
+        boolean hasNext = content.size() > limit;
+        if (hasNext) {
+            content = content.subList(0, limit);
+        }
+        return new SliceImpl<>(content, PageRequest.ofSize(limit), hasNext);
+    }
+
+    private BooleanExpression idLt(Long before) {
+        return before != null ? chatMessage.id.lt(before) : null;
+    }
+}
@@ -3,9 +3,15 @@ package com.dtalks.dtalks.studyroom.repository;
 import com.dtalks.dtalks.studyroom.entity.StudyRoom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface StudyRoomRepository extends JpaRepository<StudyRoom, Long> {
     Page<StudyRoom> findAll(Pageable pageable);
+    List<StudyRoom> findByIdIn(Collection<Long> ids);
     Page<StudyRoom> findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(String title, String content, Pageable pageable);
+    Slice<StudyRoom> findByIdLessThanAndTitleContainingIgnoreCaseOrIdLessThanAndContentContainingIgnoreCaseOrderByIdDesc(Long titleId, String title, Long contentId, String content, Pageable pageable);
 }
@@ -5,6 +5,8 @@ import com.dtalks.dtalks.studyroom.entity.StudyRoomUser;
 import com.dtalks.dtalks.studyroom.enums.StudyRoomLevel;
 import com.dtalks.dtalks.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,4 +20,7 @@ public interface StudyRoomUserRepository extends JpaRepository<StudyRoomUser, Lo
     public Optional<StudyRoomUser> findByStudyRoomAndUser(StudyRoom studyRoom, User user);
 
     Optional<StudyRoomUser> findByStudyRoomIdAndStudyRoomLevel(Long StudyRoomId, StudyRoomLevel level);
+
+    @Query("select sru.user.id from StudyRoomUser sru where sru.studyRoom.id = :studyRoomId and sru.status = true")
+    List<Long> findJoinedUserIdsByStudyRoomId(@Param("studyRoomId") Long studyRoomId);
 }
@@ -0,0 +1,14 @@
+package com.dtalks.dtalks.studyroom.service;
+
+import com.dtalks.dtalks.studyroom.dto.ChatMessageDto;
+
+/**
+ * 채팅 메세지를 /sub/rooms/{chatRoomId} 구독자에게 전달한다.
+ * dtalks.chat.broker.mode 가 local(기본값)이면 현재 서버의 구독자에게만, redis 면 모든 서버의 구독자에게 전달된다.
+ */
+public interface ChatBroadcaster {
+
+    String DESTINATION_PREFIX = "/sub/rooms/";
+
+    void broadcast(Long chatRoomId, ChatMessageDto chatMessageDto);
+}
@@ -0,0 +1,203 @@
+package com.dtalks.dtalks.studyroom.service;
+
+import com.dtalks.dtalks.exception.ErrorCode;
+import com.dtalks.dtalks.exception.exception.CustomException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메세지 저장을 브로드캐스트와 분리한다.
+ * id 는 append 시점에 chat_message_seq 에서 미리 받아 둔 블록으로 정해, 브로드캐스트하는 메세지에도 같은 id 를 싣는다.
+ * 메세지는 제한된 큐에 쌓이고, 주기적으로 꺼내 JDBC 배치 insert 로 저장된다.
+ * 저장에 실패한 배치는 버리지 않고 백오프 후 다시 저장하며, 그동안 큐가 차면 보내는 쪽에 오류를 돌려준다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+
+    // 재시도 시 이미 저장된 행이 있어도 실패하지 않도록 id 충돌은 무시한다.
+    private static final String INSERT_SQL =
+            "insert into chat_message (id, chat_room_id, sender_id, message, create_date, modified_date) values (?, ?, ?, ?, ?, ?) " +
+                    "on conflict (id) do nothing";
+    private static final String NEXT_IDS_SQL = "select nextval('chat_message_seq') from generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<PendingChatMessage> queue;
+    private final Deque<Long> idBlock = new ArrayDeque<>();
+    private final int batchSize;
+    private final int idBlockSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final long offerTimeoutMillis;
+
+    // this 로 동기화된 drain 에서만 바꾼다.
+    private List<PendingChatMessage> failedBatch = List.of();
+    private int failedAttempts;
+    private long retryAtMillis;
+
+    public ChatMessageWriter(JdbcTemplate jdbcTemplate,
+                             @Value("${dtalks.chat.writer.queue-capacity:10000}") int queueCapacity,
+                             @Value("${dtalks.chat.writer.batch-size:500}") int batchSize,
+                             @Value("${dtalks.chat.writer.id-block-size:50}") int idBlockSize,
+                             @Value("${dtalks.chat.writer.max-attempts:5}") int maxAttempts,
+                             @Value("${dtalks.chat.writer.backoff-ms:500}") long backoffMillis,
+                             @Value("${dtalks.chat.writer.max-backoff-ms:30000}") long maxBackoffMillis,
+                             @Value("${dtalks.chat.writer.offer-timeout-ms:100}") long offerTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.idBlockSize = idBlockSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+    }
+
+    /**
+     * 저장할 메세지를 큐에 넣고 메세지 id 를 돌려준다.
+     * STOMP inbound 스레드를 오래 잡지 않도록 큐에 자리가 날 때까지 offer-timeout-ms 만큼만 기다리고,
+     * 그래도 자리가 없으면 저장은 스케줄러에 맡긴 채 보내는 쪽에 오류를 돌려준다.
+     */
+    public Long append(Long chatRoomId, Long senderId, String message, LocalDateTime createDate) {
+        PendingChatMessage pending = new PendingChatMessage(nextId(), chatRoomId, senderId, message, createDate);
+        try {
+            if (queue.offer(pending, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return pending.id();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.warn("[ChatMessageWriter] - 저장 대기열이 가득 차 채팅을 받지 못했습니다. chatRoomId={}, senderId={}", chatRoomId, senderId);
+        throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "채팅 메세지가 많아 보내지 못했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @Scheduled(fixedDelayString = "${dtalks.chat.writer.flush-interval-ms:200}")
+    public void flush() {
+        int drained;
+        do {
+            drained = drain();
+        } while (drained > 0);
+    }
+
+    @PreDestroy
+    public synchronized void flushOnShutdown() {
+        log.info("[ChatMessageWriter] - 종료 전 남은 채팅 {}건을 저장합니다.", queue.size() + failedBatch.size());
+        retryAtMillis = 0;
+        flush();
+        if (!failedBatch.isEmpty() || !queue.isEmpty()) {
+            log.error("[ChatMessageWriter] - 종료 전 채팅 {}건을 저장하지 못했습니다.", queue.size() + failedBatch.size());
+        }
+    }
+
+    // 여러 노드가 블록 단위로 id 를 받아 가므로, 노드 사이의 id 순서는 전송 순서와 조금 어긋날 수 있다.
+    private Long nextId() {
+        synchronized (idBlock) {
+            if (idBlock.isEmpty()) {
+                List<Long> ids = new ArrayList<>(jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, idBlockSize));
+                ids.sort(null);
+                idBlock.addAll(ids);
+            }
+            return idBlock.pollFirst();
+        }
+    }
+
+    // 실패한 배치가 있으면 백오프가 끝난 뒤 그것부터 다시 저장해 순서를 지킨다. 저장한 건수를 돌려준다.
+    private synchronized int drain() {
+        if (!failedBatch.isEmpty()) {
+            if (System.currentTimeMillis() < retryAtMillis) {
+                return 0;
+            }
+            List<PendingChatMessage> retry = failedBatch;
+            List<PendingChatMessage> remaining = List.of();
+            try {
+                if (failedAttempts >= maxAttempts) {
+                    remaining = insertEach(retry);
+                } else {
+                    insert(retry);
+                }
+            } catch (RuntimeException e) {
+                retryLater(retry, e);
+                return 0;
+            }
+            if (!remaining.isEmpty()) {
+                retryLater(remaining, null);
+                return 0;
+            }
+            failedBatch = List.of();
+            failedAttempts = 0;
+            return retry.size();
+        }
+
+        List<PendingChatMessage> batch = new ArrayList<>(batchSize);
+        queue.drainTo(batch, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            insert(batch);
+        } catch (RuntimeException e) {
+            retryLater(batch, e);
+            return 0;
+        }
+        return batch.size();
+    }
+
+    private void insert(List<PendingChatMessage> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, toRows(batch));
+    }
+
+    /**
+     * 배치가 계속 실패하면 한 건씩 저장해, 저장할 수 없는 메세지(삭제된 채팅방 등 제약 조건 위반)만 버린다.
+     * DB 연결 오류처럼 다른 이유로 실패하면 남은 메세지를 돌려줘 다시 시도하게 한다.
+     */
+    private List<PendingChatMessage> insertEach(List<PendingChatMessage> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingChatMessage m = batch.get(i);
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, toRows(List.of(m)));
+            } catch (DataIntegrityViolationException e) {
+                log.error("[ChatMessageWriter] - 채팅을 저장할 수 없어 버립니다. id={}, chatRoomId={}", m.id(), m.chatRoomId(), e);
+            } catch (RuntimeException e) {
+                log.warn("[ChatMessageWriter] - 채팅 한 건씩 저장하던 중 실패했습니다. id={}", m.id(), e);
+                return new ArrayList<>(batch.subList(i, batch.size()));
+            }
+        }
+        return List.of();
+    }
+
+    private void retryLater(List<PendingChatMessage> batch, RuntimeException e) {
+        failedBatch = batch;
+        failedAttempts++;
+        long delay = Math.min(backoffMillis << Math.min(failedAttempts - 1, 16), maxBackoffMillis);
+        retryAtMillis = System.currentTimeMillis() + delay;
+        log.error("[ChatMessageWriter] - 채팅 {}건 저장 실패({}회), {}ms 후 다시 저장합니다.", batch.size(), failedAttempts, delay, e);
+    }
+
+    private static List<Object[]> toRows(List<PendingChatMessage> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (PendingChatMessage m : batch) {
+            Timestamp createDate = Timestamp.valueOf(m.createDate());
+            rows.add(new Object[]{m.id(), m.chatRoomId(), m.senderId(), m.message(), createDate, createDate});
+        }
+        return rows;
+    }
+
+    private record PendingChatMessage(Long id, Long chatRoomId, Long senderId, String message, LocalDateTime createDate) {
+    }
+}
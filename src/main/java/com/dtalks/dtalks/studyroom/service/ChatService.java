@@ -3,16 +3,19 @@ package com.dtalks.dtalks.studyroom.service;
 import com.dtalks.dtalks.studyroom.dto.ChatMessageDto;
 import com.dtalks.dtalks.studyroom.dto.ChatRoomDto;
 import com.dtalks.dtalks.studyroom.entity.ChatRoom;
-import com.dtalks.dtalks.user.entity.User;
+import com.dtalks.dtalks.user.dto.UserPrincipal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface ChatService {
 
 
     public ChatRoom createRoom(Long studyRoomId);
 
-    public ChatMessageDto createChatMessage(Long chatRoomId, String message, User user);
+    public ChatMessageDto sendChatMessage(Long chatRoomId, String message, UserPrincipal sender);
 
     public Page<ChatMessageDto> findAllChat(Long chatRoomId, Pageable pageable);
+
+    public Slice<ChatMessageDto> findChatHistory(Long chatRoomId, Long before, int limit);
 }
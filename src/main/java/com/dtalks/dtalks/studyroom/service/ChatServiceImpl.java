@@ -6,19 +6,21 @@ import com.dtalks.dtalks.studyroom.dto.ChatMessageDto;
 import com.dtalks.dtalks.studyroom.entity.ChatMessage;
 import com.dtalks.dtalks.studyroom.entity.ChatRoom;
 import com.dtalks.dtalks.studyroom.entity.StudyRoom;
-import com.dtalks.dtalks.studyroom.entity.StudyRoomUser;
 import com.dtalks.dtalks.studyroom.repository.ChatMessageRepository;
 import com.dtalks.dtalks.studyroom.repository.ChatRoomRepository;
+import com.dtalks.dtalks.studyroom.repository.CustomChatMessageRepository;
 import com.dtalks.dtalks.studyroom.repository.StudyRoomRepository;
 import com.dtalks.dtalks.user.Util.SecurityUtil;
-import com.dtalks.dtalks.user.entity.User;
+import com.dtalks.dtalks.user.dto.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 
@@ -30,6 +32,9 @@ public class ChatServiceImpl implements ChatService {
     private final StudyRoomRepository studyRoomRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final CustomChatMessageRepository customChatMessageRepository;
+    private final ChatMessageWriter chatMessageWriter;
+    private final StudyRoomMembershipCache studyRoomMembershipCache;
 
     @Override
     public ChatRoom createRoom(Long studyRoomId) {
@@ -44,36 +49,45 @@ public class ChatServiceImpl implements ChatService {
         return chatRoom;
     }
 
+    /**
+     * 권한 확인 후 바로 브로드캐스트할 DTO 를 돌려주고, 저장은 ChatMessageWriter 에 맡긴다.
+     */
     @Override
-    @Transactional
-    public ChatMessageDto createChatMessage(Long chatRoomId, String message, User user) {
-        ChatRoom chatRoom = checkChatRoom(chatRoomId);
-        checkStudyRoomMember(chatRoom.getStudyRoom(), user);
-        ChatMessage chatMessage = new ChatMessage();
-        chatMessage.setChatRoom(chatRoom);
-        chatMessage.setSender(user);
-        chatMessage.setMessage(message);
-        log.info("메세지 저장: " + message);
-        chatMessageRepository.save(chatMessage);
+    public ChatMessageDto sendChatMessage(Long chatRoomId, String message, UserPrincipal sender) {
+        checkStudyRoomMember(studyRoomMembershipCache.getStudyRoomId(chatRoomId), sender.getId());
+
+        LocalDateTime now = LocalDateTime.now();
+        Long id = chatMessageWriter.append(chatRoomId, sender.getId(), message, now);
 
-        return ChatMessageDto.toDto(chatMessage);
+        return ChatMessageDto.builder()
+                .id(id)
+                .message(message)
+                .sender(sender.getNickname())
+                .createDate(now)
+                .build();
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ChatMessageDto> findAllChat(Long chatRoomId, Pageable pageable) {
-        User user = SecurityUtil.getUser();
+        UserPrincipal user = SecurityUtil.getPrincipal();
         ChatRoom chatRoom = checkChatRoom(chatRoomId);
-        checkStudyRoomMember(chatRoom.getStudyRoom(), user);
+        checkStudyRoomMember(chatRoom.getStudyRoom().getId(), user.getId());
         Page<ChatMessage> chatMessages = chatMessageRepository.findByChatRoom(chatRoom, pageable);
         return chatMessages.map(ChatMessageDto::toDto);
     }
 
-    private void checkStudyRoomMember(StudyRoom studyRoom, User user) {
-        for(StudyRoomUser studyRoomUser: studyRoom.getStudyRoomUsers()) {
-            if(studyRoomUser.getUser().getEmail().equals(user.getEmail())) {
-                return;
-            }
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ChatMessageDto> findChatHistory(Long chatRoomId, Long before, int limit) {
+        UserPrincipal user = SecurityUtil.getPrincipal();
+        checkStudyRoomMember(studyRoomMembershipCache.getStudyRoomId(chatRoomId), user.getId());
+        return customChatMessageRepository.findHistory(chatRoomId, before, limit);
+    }
+
+    private void checkStudyRoomMember(Long studyRoomId, Long userId) {
+        if(studyRoomMembershipCache.isMember(studyRoomId, userId)) {
+            return;
         }
         throw new CustomException(ErrorCode.VALIDATION_ERROR, "스터디룸 가입 유저가 아닙니다.");
     }
@@ -0,0 +1,23 @@
+package com.dtalks.dtalks.studyroom.service;
+
+import com.dtalks.dtalks.studyroom.dto.ChatMessageDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 서버(및 로컬/테스트)용. 내장 simple broker 로만 전달한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "dtalks.chat.broker.mode", havingValue = "local", matchIfMissing = true)
+public class LocalChatBroadcaster implements ChatBroadcaster {
+
+    private final SimpMessagingTemplate simpMessagingTemplate;
+
+    @Override
+    public void broadcast(Long chatRoomId, ChatMessageDto chatMessageDto) {
+        simpMessagingTemplate.convertAndSend(DESTINATION_PREFIX + chatRoomId, chatMessageDto);
+    }
+}
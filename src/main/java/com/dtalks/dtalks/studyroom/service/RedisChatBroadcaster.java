@@ -0,0 +1,54 @@
+package com.dtalks.dtalks.studyroom.service;
+
+import com.dtalks.dtalks.studyroom.dto.ChatMessageDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다중 서버용. 메세지를 채팅방별 Redis 채널(chat:room:{id})로 발행하고,
+ * 모든 서버(자기 자신 포함)가 구독한 메세지를 각자의 simple broker 로 전달한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "dtalks.chat.broker.mode", havingValue = "redis")
+public class RedisChatBroadcaster implements ChatBroadcaster, MessageListener {
+
+    public static final String CHANNEL_PREFIX = "chat:room:";
+    public static final String CHANNEL_PATTERN = CHANNEL_PREFIX + "*";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void broadcast(Long chatRoomId, ChatMessageDto chatMessageDto) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + chatRoomId, objectMapper.writeValueAsString(chatMessageDto));
+        } catch (JsonProcessingException e) {
+            log.error("[RedisChatBroadcaster] - 채팅 메세지 직렬화 실패. chatRoomId={}", chatRoomId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        try {
+            Long chatRoomId = Long.valueOf(channel.substring(CHANNEL_PREFIX.length()));
+            ChatMessageDto chatMessageDto = objectMapper.readValue(message.getBody(), ChatMessageDto.class);
+            simpMessagingTemplate.convertAndSend(DESTINATION_PREFIX + chatRoomId, chatMessageDto);
+        } catch (Exception e) {
+            log.error("[RedisChatBroadcaster] - 수신한 채팅 메세지 처리 실패. channel={}", channel, e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.dtalks.dtalks.studyroom.service;
+
+import com.dtalks.dtalks.base.component.AfterCommit;
+import com.dtalks.dtalks.exception.ErrorCode;
+import com.dtalks.dtalks.exception.exception.CustomException;
+import com.dtalks.dtalks.studyroom.repository.ChatRoomRepository;
+import com.dtalks.dtalks.studyroom.repository.StudyRoomUserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 스터디룸별 가입 완료(status = true) 유저 id 집합을 캐싱한다.
+ * 가입/승인/탈퇴/강퇴 시 커밋 이후에 해당 스터디룸 항목을 비우고, 다른 서버에서의 변경은 TTL 이 지나면 다시 읽어온다.
+ */
+@Component
+public class StudyRoomMembershipCache {
+
+    private final StudyRoomUserRepository studyRoomUserRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final LoadingCache<Long, Set<Long>> members;
+    private final Cache<Long, Long> studyRoomIdByChatRoomId;
+
+    public StudyRoomMembershipCache(StudyRoomUserRepository studyRoomUserRepository,
+                                    ChatRoomRepository chatRoomRepository,
+                                    @Value("${dtalks.study-room.membership-cache.max-size:10000}") long maxSize,
+                                    @Value("${dtalks.study-room.membership-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.studyRoomUserRepository = studyRoomUserRepository;
+        this.chatRoomRepository = chatRoomRepository;
+        this.members = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build(this::loadMembers);
+        this.studyRoomIdByChatRoomId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public boolean isMember(Long studyRoomId, Long userId) {
+        return members.get(studyRoomId).contains(userId);
+    }
+
+    public Long getStudyRoomId(Long chatRoomId) {
+        Long studyRoomId = studyRoomIdByChatRoomId.get(chatRoomId, id -> chatRoomRepository.findStudyRoomIdById(id).orElse(null));
+        if (studyRoomId == null) {
+            throw new CustomException(ErrorCode.VALIDATION_ERROR, "채팅방이 존재하지 않습니다.");
+        }
+        return studyRoomId;
+    }
+
+    // 가입/탈퇴한 유저만 고치지 않고 항목을 지워 다음 조회 때 다시 읽는다. 로딩 중인 값에 더하면 로딩이 끝나며 덮어써질 수 있다.
+    // invalidate 는 진행 중인 로딩이 끝날 때까지 기다렸다가 지우므로 커밋 전 값이 남지 않는다.
+    public void invalidate(Long studyRoomId) {
+        AfterCommit.run(() -> members.invalidate(studyRoomId));
+    }
+
+    public void evictStudyRoom(Long studyRoomId) {
+        AfterCommit.run(() -> {
+            members.invalidate(studyRoomId);
+            studyRoomIdByChatRoomId.asMap().values().removeIf(studyRoomId::equals);
+        });
+    }
+
+    private Set<Long> loadMembers(Long studyRoomId) {
+        return Set.copyOf(studyRoomUserRepository.findJoinedUserIdsByStudyRoomId(studyRoomId));
+    }
+}
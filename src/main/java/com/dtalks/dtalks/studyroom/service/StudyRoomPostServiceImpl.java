@@ -6,7 +6,6 @@ import com.dtalks.dtalks.studyroom.dto.StudyRoomPostDto;
 import com.dtalks.dtalks.studyroom.dto.StudyRoomPostRequestDto;
 import com.dtalks.dtalks.studyroom.entity.StudyRoomPost;
 import com.dtalks.dtalks.studyroom.entity.StudyRoom;
-import com.dtalks.dtalks.studyroom.entity.StudyRoomUser;
 import com.dtalks.dtalks.studyroom.repository.StudyRoomPostRepository;
 import com.dtalks.dtalks.studyroom.repository.StudyRoomRepository;
 import com.dtalks.dtalks.user.Util.SecurityUtil;
@@ -27,6 +26,8 @@ public class StudyRoomPostServiceImpl implements StudyRoomPostService {
     private final StudyRoomRepository studyRoomRepository;
     private final StudyRoomPostRepository studyRoomPostRepository;
     private final UserRepository userRepository;
+    private final StudyRoomMembershipCache studyRoomMembershipCache;
+
     @Override
     @Transactional
     public StudyRoomPostDto addPost(Long studyRoomId, StudyRoomPostRequestDto studyRoomPostRequestDto) {
@@ -106,9 +107,7 @@ public class StudyRoomPostServiceImpl implements StudyRoomPostService {
     }
 
     private boolean checkUserJoinedStudyRoom(User user, StudyRoom studyRoom) {
-        for(StudyRoomUser studyRoomUser: user.getStudyRoomUserList()) {
-            if(studyRoomUser.getStudyRoom().getId() == studyRoom.getId()) return true;
-        }
+        if(studyRoomMembershipCache.isMember(studyRoom.getId(), user.getId())) return true;
         throw new CustomException(ErrorCode.VALIDATION_ERROR, "해당 유저는 해당 스터디룸 가입자가 아닙니다.");
     }
 
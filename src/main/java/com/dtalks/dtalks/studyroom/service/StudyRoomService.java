@@ -6,6 +6,7 @@ import com.dtalks.dtalks.studyroom.dto.StudyRoomResponseDto;
 import com.dtalks.dtalks.studyroom.enums.StudyRoomLevel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -16,6 +17,8 @@ public interface StudyRoomService {
 
     public Page<StudyRoomResponseDto> getStudyRooms(String search, Pageable pageable);
 
+    public Slice<StudyRoomResponseDto> getStudyRoomsByCursor(String search, Long after, int size);
+
     public StudyRoomResponseDto updateStudyRoom(Long id, StudyRoomRequestDto studyRoomRequestDto);
 
     public StudyRoomResponseDto joinStudyRoom(Long id);
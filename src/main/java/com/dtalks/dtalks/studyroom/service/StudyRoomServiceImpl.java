@@ -7,6 +7,10 @@ import com.dtalks.dtalks.notification.entity.Notification;
 import com.dtalks.dtalks.notification.enums.NotificationType;
 import com.dtalks.dtalks.notification.enums.ReadStatus;
 import com.dtalks.dtalks.notification.repository.NotificationRepository;
+import com.dtalks.dtalks.notification.service.UnreadNotificationCounter;
+import com.dtalks.dtalks.search.enums.SearchTarget;
+import com.dtalks.dtalks.search.service.SearchIndexService;
+import com.dtalks.dtalks.search.service.SearchResults;
 import com.dtalks.dtalks.studyroom.dto.StudyRoomJoinResponseDto;
 import com.dtalks.dtalks.studyroom.dto.StudyRoomRequestDto;
 import com.dtalks.dtalks.studyroom.dto.StudyRoomResponseDto;
@@ -16,9 +20,9 @@ import com.dtalks.dtalks.studyroom.enums.StudyRoomLevel;
 import com.dtalks.dtalks.studyroom.repository.ChatRoomRepository;
 import com.dtalks.dtalks.studyroom.repository.StudyRoomRepository;
 import com.dtalks.dtalks.studyroom.repository.StudyRoomUserRepository;
-import com.dtalks.dtalks.user.Util.SecurityUtil;
 import com.dtalks.dtalks.user.entity.User;
 import com.dtalks.dtalks.user.repository.UserRepository;
+import com.dtalks.dtalks.user.service.CurrentUserProvider;
 import com.querydsl.jpa.impl.JPAQuery;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -27,14 +31,13 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -46,16 +49,20 @@ public class StudyRoomServiceImpl implements StudyRoomService{
     private final StudyRoomUserRepository studyRoomUserRepository;
     private final UserRepository userRepository;
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
     private final ChatService chatService;
     private final ChatRoomRepository chatRoomRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final MessageSource messageSource;
+    private final StudyRoomMembershipCache studyRoomMembershipCache;
+    private final SearchIndexService searchIndexService;
+    private final CurrentUserProvider currentUserProvider;
 
     @Override
     @Transactional
     public StudyRoomResponseDto createStudyRoom(StudyRoomRequestDto studyRoomRequestDto) {
         LOGGER.info("createStudyRoom service 호출됨");
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         StudyRoom studyRoom = StudyRoom.toEntity(studyRoomRequestDto);
         StudyRoomUser studyRoomUser = StudyRoomUser.toEntity(user, studyRoom, StudyRoomLevel.LEADER, true);
         List<StudyRoomUser> studyRoomUsers = new ArrayList<>();
@@ -64,6 +71,7 @@ public class StudyRoomServiceImpl implements StudyRoomService{
         studyRoom.setStudyRoomUsers(studyRoomUsers);
         StudyRoom savedStudyroom = studyRoomRepository.save(studyRoom);
         chatService.createRoom(savedStudyroom.getId());
+        searchIndexService.index(SearchTarget.STUDY_ROOM, savedStudyroom.getId(), savedStudyroom.getTitle(), savedStudyroom.getContent());
 
         StudyRoomResponseDto studyRoomResponseDto = StudyRoomResponseDto.toDto(savedStudyroom);
 
@@ -84,7 +92,20 @@ public class StudyRoomServiceImpl implements StudyRoomService{
     @Override
     @Transactional(readOnly = true)
     public Page<StudyRoomResponseDto> getStudyRooms(String search, Pageable pageable) {
-        Page<StudyRoom> studyRooms = studyRoomRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(search, search, pageable);
+        if (search.isBlank()) {
+            return studyRoomRepository.findAll(pageable).map(StudyRoomResponseDto::toDto);
+        }
+
+        Page<Long> ids = searchIndexService.search(SearchTarget.STUDY_ROOM, search, pageable);
+        return SearchResults.toPage(ids, studyRoomRepository::findByIdIn, StudyRoom::getId, StudyRoomResponseDto::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<StudyRoomResponseDto> getStudyRoomsByCursor(String search, Long after, int size) {
+        Long cursor = after == null ? Long.MAX_VALUE : after;
+        Slice<StudyRoom> studyRooms = studyRoomRepository.findByIdLessThanAndTitleContainingIgnoreCaseOrIdLessThanAndContentContainingIgnoreCaseOrderByIdDesc(
+                cursor, search, cursor, search, PageRequest.ofSize(size));
         return studyRooms.map(StudyRoomResponseDto::toDto);
     }
 
@@ -104,6 +125,7 @@ public class StudyRoomServiceImpl implements StudyRoomService{
         studyRoomResponse.setJoinableCount(studyRoomRequestDto.getJoinableCount());
 
         studyRoomRepository.save(studyRoomResponse);
+        searchIndexService.index(SearchTarget.STUDY_ROOM, id, studyRoomResponse.getTitle(), studyRoomResponse.getContent());
 
         return StudyRoomResponseDto.toDto(studyRoomResponse);
     }
@@ -129,13 +151,16 @@ public class StudyRoomServiceImpl implements StudyRoomService{
                 notification.readDataDeleteSetting();
             } else {
                 notificationRepository.deleteById(notification.getId());
+                unreadNotificationCounter.decrement(notification.getReceiver().getId());
             }
         }
 
         for(StudyRoomUser studyRoomUser: studyRoomUsers) {
             if(studyRoomUser.getStudyRoomLevel().equals(StudyRoomLevel.LEADER)) {
-                if(studyRoomUser.getUser().getUserid().equals(SecurityUtil.getUser().getUserid())) {
+                if(studyRoomUser.getUser().getUserid().equals(currentUserProvider.getUser().getUserid())) {
                     chatRoomRepository.delete(chatRoomRepository.findById(studyRoom.getId()).get());
+                    studyRoomMembershipCache.evictStudyRoom(studyRoom.getId());
+                    searchIndexService.remove(SearchTarget.STUDY_ROOM, studyRoom.getId());
                     return;
                 }
             }
@@ -157,7 +182,7 @@ public class StudyRoomServiceImpl implements StudyRoomService{
             throw new CustomException(ErrorCode.VALIDATION_ERROR, "가입 정원이 가득찼습니다.");
         }
 
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
 
         // 이미 가입했는지 확인
         for(StudyRoomUser studyRoomUser: studyRoom.getStudyRoomUsers()) {
@@ -172,6 +197,7 @@ public class StudyRoomServiceImpl implements StudyRoomService{
         if(studyRoom.isAutoJoin()) {
             studyRoom.addJoinCount();
             studyRoomUser.setStatus(true);
+            studyRoomMembershipCache.invalidate(studyRoom.getId());
         }
         else {
             studyRoomUser.setStatus(false);
@@ -204,7 +230,7 @@ public class StudyRoomServiceImpl implements StudyRoomService{
     @Override
     @Transactional(readOnly = true)
     public Page<StudyRoomJoinResponseDto> studyRoomRequestList(Pageable pageable) {
-        User leader = SecurityUtil.getUser();
+        User leader = currentUserProvider.getUser();
         List<StudyRoomUser> studyRoomUsers = studyRoomUserRepository.findAllByUser(leader);
         List<StudyRoomJoinResponseDto> studyRoomJoinResponseDtos = new ArrayList<>();
 
@@ -227,7 +253,7 @@ public class StudyRoomServiceImpl implements StudyRoomService{
     @Override
     @Transactional
     public StudyRoomResponseDto acceptJoinStudyRoom(Long studyRoomId, Long studyRoomUserId, boolean status) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         Optional<StudyRoom> optionalStudyRoom = studyRoomRepository.findById(studyRoomId);
         if(optionalStudyRoom.isEmpty()) {
             throw new CustomException(ErrorCode.STUDYROOM_NOT_FOUND_ERROR, "존재하지 않는 스터디룸 입니다.");
@@ -269,6 +295,7 @@ public class StudyRoomServiceImpl implements StudyRoomService{
         requestStudyRoomUser.setStatus(true);
         StudyRoom savedStudyRoom = studyRoomRepository.save(studyRoom);
         studyRoomUserRepository.save(requestStudyRoomUser);
+        studyRoomMembershipCache.invalidate(studyRoom.getId());
 
         applicationEventPublisher.publishEvent(NotificationRequestDto.toDto(studyRoom.getId(), studyRoom.getId(), requestUser,
                 NotificationType.STUDY_REQUEST_ACCEPTED, messageSource.getMessage("notification.study.request.accepted", new Object[]{studyRoom.getTitle()}, null)));
@@ -278,7 +305,7 @@ public class StudyRoomServiceImpl implements StudyRoomService{
     @Override
     @Transactional
     public void deleteStudyRoomUser(Long id) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         StudyRoom studyRoom = studyRoomRepository.findById(id).get();
         List<StudyRoomUser> studyRoomUsers = studyRoom.getStudyRoomUsers();
         for(StudyRoomUser studyRoomUser: studyRoomUsers) {
@@ -301,6 +328,7 @@ public class StudyRoomServiceImpl implements StudyRoomService{
                                 NotificationType.STUDY_MEMBER_QUIT, messageSource.getMessage("notification.study.member.quit", new Object[]{studyRoom.getTitle(), user.getNickname()}, null)));
                     }
                     studyRoomUserRepository.delete(studyRoomUser);
+                    studyRoomMembershipCache.invalidate(studyRoom.getId());
                     return;
                 }
             }
@@ -311,7 +339,7 @@ public class StudyRoomServiceImpl implements StudyRoomService{
     @Override
     @Transactional
     public StudyRoomResponseDto expelStudyRoomUser(Long studyRoomId, String nickname) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         Optional<StudyRoom> optionalStudyRoom = studyRoomRepository.findById(studyRoomId);
         if(optionalStudyRoom.isEmpty()) {
             throw new CustomException(ErrorCode.STUDYROOM_NOT_FOUND_ERROR, "존재하지 않는 스터디룸 입니다.");
@@ -350,6 +378,7 @@ public class StudyRoomServiceImpl implements StudyRoomService{
                 NotificationType.STUDY_EXPELLED, messageSource.getMessage("notification.study.member.expelled", new Object[]{studyRoom.getTitle()}, null)));
 
         studyRoomUserRepository.delete(expelStudyRoomUser);
+        studyRoomMembershipCache.invalidate(studyRoom.getId());
         studyRoom.subJoinCount();
         return StudyRoomResponseDto.toDto(studyRoom);
     }
@@ -357,7 +386,7 @@ public class StudyRoomServiceImpl implements StudyRoomService{
     @Override
     @Transactional(readOnly = true)
     public Page<StudyRoomResponseDto> JoinedStudyRoomList(Pageable pageable) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         List<StudyRoomUser> studyRoomUsers = studyRoomUserRepository.findAllByUser(user);
         List<StudyRoomResponseDto> studyRoomResponseDtos = new ArrayList<>();
 
@@ -374,7 +403,7 @@ public class StudyRoomServiceImpl implements StudyRoomService{
     @Override
     @Transactional
     public StudyRoomResponseDto changeAuthority(Long studyRoomId, Long studyRoomUserId, StudyRoomLevel studyRoomLevel) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
 
         Optional<StudyRoom> optionalStudyRoom = studyRoomRepository.findById(studyRoomId);
         if(optionalStudyRoom.isEmpty()) {
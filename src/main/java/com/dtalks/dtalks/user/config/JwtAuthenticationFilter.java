@@ -2,7 +2,7 @@ package com.dtalks.dtalks.user.config;
 
 import com.dtalks.dtalks.exception.ErrorCode;
 import com.dtalks.dtalks.exception.exception.CustomException;
-import com.dtalks.dtalks.user.entity.User;
+import com.dtalks.dtalks.user.dto.UserPrincipal;
 import com.dtalks.dtalks.user.enums.ActiveStatus;
 import com.dtalks.dtalks.user.service.TokenService;
 import jakarta.servlet.FilterChain;
@@ -14,11 +14,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
@@ -29,34 +27,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         this.tokenService = tokenService;
     }
 
-    private static final String[] SHOULD_NOT_FILTER_URI_ALL_LIST = new String[]{
+    public static final String[] SHOULD_NOT_FILTER_URI_ALL_LIST = new String[]{
             "/sign-in/**", "/sign-up", "exception",
             "/token/refresh", "/admin/sign-in", "**exception**"
     };
 
-    private static final String[] SHOULD_NOT_FILTER_URI_GET_LIST = new String[]{
+    public static final String[] SHOULD_NOT_FILTER_URI_GET_LIST = new String[]{
             "/email/**", "/users/private/**",
             "/post/**", "/comment/**", "/questions/**", "/answers/**", "/news", "/users/userid",
             "/announcements/**"
     };
 
-    private static final String[] SHOULD_FILTER_URI_GET_LIST = new String[] {
+    public static final String[] SHOULD_FILTER_URI_GET_LIST = new String[] {
             "/**/check/**"
     };
 
+    public static final JwtFilterRouteTable ROUTE_TABLE = JwtFilterRouteTable.builder()
+            .skipAll(SHOULD_NOT_FILTER_URI_ALL_LIST)
+            .skip("GET", SHOULD_NOT_FILTER_URI_GET_LIST)
+            .require("GET", SHOULD_FILTER_URI_GET_LIST)
+            .build();
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        if (Arrays.stream(SHOULD_NOT_FILTER_URI_ALL_LIST)
-                .anyMatch(e -> new AntPathMatcher().match(e, request.getServletPath()))) {
-            return true;
-        } else {
-            if (request.getMethod().equals("GET") &&
-                    Arrays.stream(SHOULD_FILTER_URI_GET_LIST).noneMatch(e -> new AntPathMatcher().match(e, request.getServletPath()))) {
-                return Arrays.stream(SHOULD_NOT_FILTER_URI_GET_LIST)
-                        .anyMatch(e -> new AntPathMatcher().match(e, request.getServletPath()));
-            }
-        }
-        return false;
+        return ROUTE_TABLE.shouldNotFilter(request.getMethod(), request.getServletPath());
     }
 
     @Override
@@ -75,15 +69,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             Authentication authentication = null;
-            if(token != null && tokenService.validateToken(token)) {
-                authentication = tokenService.getAuthentication(token);
+            if(token != null) {
+                authentication = tokenService.getAuthentication(tokenService.verifyToken(token));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
 
             if (!request.getMethod().equals("GET")) {
                 if (authentication != null) {
-                    User user = (User) authentication.getPrincipal();
-                    if (user.getStatus() != ActiveStatus.ACTIVE) {
+                    UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+                    if (principal.getStatus() != ActiveStatus.ACTIVE) {
                         throw new CustomException(ErrorCode.PERMISSION_NOT_GRANTED_ERROR, "현재 정지 상태로 활동이 불가능합니다.");
                     }
                 }
@@ -0,0 +1,130 @@
+package com.dtalks.dtalks.user.config;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import org.springframework.web.util.pattern.PatternParseException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JwtAuthenticationFilter 의 필터 제외 경로 테이블.
+ * 패턴은 생성 시점에 한 번만 컴파일되고, 요청마다 경로도 한 번만 분해해 모든 패턴에 재사용한다.
+ * PathPattern 으로 표현할 수 없는 패턴(중간의 '**' 등)은 공유 AntPathMatcher 로 같은 의미를 유지한다.
+ */
+public final class JwtFilterRouteTable {
+
+    private static final AntPathMatcher ANT_PATH_MATCHER = new AntPathMatcher();
+
+    private final List<RouteMatcher> skipForAllMethods;
+    private final Map<String, List<RouteMatcher>> skipByMethod;
+    private final Map<String, List<RouteMatcher>> requireByMethod;
+
+    private JwtFilterRouteTable(Builder builder) {
+        this.skipForAllMethods = List.copyOf(builder.skipForAllMethods);
+        this.skipByMethod = copy(builder.skipByMethod);
+        this.requireByMethod = copy(builder.requireByMethod);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean shouldNotFilter(String method, String path) {
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        if (matchesAny(skipForAllMethods, pathContainer, path)) {
+            return true;
+        }
+
+        List<RouteMatcher> skip = skipByMethod.get(method);
+        if (skip == null) {
+            return false;
+        }
+        List<RouteMatcher> require = requireByMethod.getOrDefault(method, List.of());
+        return !matchesAny(require, pathContainer, path) && matchesAny(skip, pathContainer, path);
+    }
+
+    private static boolean matchesAny(List<RouteMatcher> matchers, PathContainer pathContainer, String path) {
+        for (int i = 0; i < matchers.size(); i++) {
+            if (matchers.get(i).matches(pathContainer, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, List<RouteMatcher>> copy(Map<String, List<RouteMatcher>> source) {
+        Map<String, List<RouteMatcher>> copied = new HashMap<>();
+        source.forEach((method, matchers) -> copied.put(method, List.copyOf(matchers)));
+        return Map.copyOf(copied);
+    }
+
+    private interface RouteMatcher {
+        boolean matches(PathContainer pathContainer, String path);
+    }
+
+    public static final class Builder {
+
+        private final PathPatternParser parser = new PathPatternParser();
+        private final List<RouteMatcher> skipForAllMethods = new ArrayList<>();
+        private final Map<String, List<RouteMatcher>> skipByMethod = new HashMap<>();
+        private final Map<String, List<RouteMatcher>> requireByMethod = new HashMap<>();
+
+        private Builder() {
+            // AntPathMatcher 와 동일하게 '/sign-up/' 은 '/sign-up' 패턴과 일치하지 않도록 한다.
+            parser.setMatchOptionalTrailingSeparator(false);
+        }
+
+        public Builder skipAll(String... patterns) {
+            for (String pattern : patterns) {
+                skipForAllMethods.add(compile(pattern));
+            }
+            return this;
+        }
+
+        public Builder skip(String method, String... patterns) {
+            List<RouteMatcher> matchers = skipByMethod.computeIfAbsent(method, m -> new ArrayList<>());
+            for (String pattern : patterns) {
+                matchers.add(compile(pattern));
+            }
+            return this;
+        }
+
+        public Builder require(String method, String... patterns) {
+            List<RouteMatcher> matchers = requireByMethod.computeIfAbsent(method, m -> new ArrayList<>());
+            for (String pattern : patterns) {
+                matchers.add(compile(pattern));
+            }
+            return this;
+        }
+
+        public JwtFilterRouteTable build() {
+            return new JwtFilterRouteTable(this);
+        }
+
+        private RouteMatcher compile(String pattern) {
+            if (isPathPatternCompatible(pattern)) {
+                try {
+                    PathPattern pathPattern = parser.parse(pattern);
+                    return (pathContainer, path) -> pathPattern.matches(pathContainer);
+                } catch (PatternParseException ignored) {
+                    // 아래의 AntPathMatcher 로 처리한다.
+                }
+            }
+            return (pathContainer, path) -> ANT_PATH_MATCHER.match(pattern, path);
+        }
+
+        // 와일드카드가 없거나 마지막 '/**' 에만 있는 절대 경로만 두 매처의 결과가 같다.
+        private static boolean isPathPatternCompatible(String pattern) {
+            if (!pattern.startsWith("/")) {
+                return false;
+            }
+            int wildcard = pattern.indexOf('*');
+            return wildcard == -1 || (pattern.endsWith("/**") && wildcard == pattern.length() - 2);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.dtalks.dtalks.user.dto;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명 검증을 마친 JWT 의 내용. 요청(STOMP 프레임)마다 한 번만 만들어 필요한 곳에 전달한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TokenClaims {
+
+    private final Long userId;
+    private final Date expiration;
+
+    public static TokenClaims from(Claims claims) {
+        return new TokenClaims(Long.parseLong(claims.getSubject()), claims.getExpiration());
+    }
+}
@@ -0,0 +1,80 @@
+package com.dtalks.dtalks.user.dto;
+
+import com.dtalks.dtalks.user.entity.User;
+import com.dtalks.dtalks.user.enums.ActiveStatus;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * SecurityContext 에 저장되는 인증 사용자 정보.
+ * User 엔티티 대신 요청마다 필요한 값만 담은 불변 객체로, 캐시에 보관되어 여러 요청이 공유한다.
+ */
+@Getter
+public final class UserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String userid;
+    private final String nickname;
+    private final ActiveStatus status;
+    private final boolean active;
+    private final List<String> roles;
+    private final List<GrantedAuthority> authorities;
+
+    private UserPrincipal(User user) {
+        this.id = user.getId();
+        this.userid = user.getUserid();
+        this.nickname = user.getNickname();
+        this.status = user.getStatus();
+        this.active = Boolean.TRUE.equals(user.getIsActive());
+        this.roles = List.copyOf(user.getRoles());
+        this.authorities = roles.stream().map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role)).toList();
+    }
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user);
+    }
+
+    public boolean isAdmin() {
+        return roles.contains("ROLE_ADMIN");
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return "";
+    }
+
+    @Override
+    public String getUsername() {
+        return userid;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,24 @@
+package com.dtalks.dtalks.user.service;
+
+import com.dtalks.dtalks.exception.ErrorCode;
+import com.dtalks.dtalks.exception.exception.CustomException;
+import com.dtalks.dtalks.user.Util.SecurityUtil;
+import com.dtalks.dtalks.user.entity.User;
+import com.dtalks.dtalks.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인한 사용자의 User 엔티티를 조회한다. id 만 필요하면 SecurityUtil.getPrincipal() 을 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserProvider {
+
+    private final UserRepository userRepository;
+
+    public User getUser() {
+        return userRepository.findById(SecurityUtil.getPrincipal().getId())
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_ERROR, "유저를 찾을 수 없습니다."));
+    }
+}
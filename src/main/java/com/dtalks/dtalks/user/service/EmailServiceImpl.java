@@ -1,5 +1,6 @@
 package com.dtalks.dtalks.user.service;
 
+import com.dtalks.dtalks.base.config.AsyncConfiguration;
 import com.dtalks.dtalks.exception.ErrorCode;
 import com.dtalks.dtalks.exception.exception.CustomException;
 import com.dtalks.dtalks.user.dto.AccessTokenDto;
@@ -16,6 +17,7 @@ import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.io.UnsupportedEncodingException;
@@ -79,6 +81,7 @@ public class EmailServiceImpl implements EmailService{
     }
 
     @Override
+    @Async(AsyncConfiguration.MAIL_EXECUTOR)
     public void sendEmail(MimeMessage mimeMessage) {
         javaMailSender.send(mimeMessage);
     }
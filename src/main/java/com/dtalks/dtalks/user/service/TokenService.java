@@ -1,6 +1,6 @@
 package com.dtalks.dtalks.user.service;
 
-import com.dtalks.dtalks.user.entity.User;
+import com.dtalks.dtalks.user.dto.TokenClaims;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.security.core.Authentication;
 
@@ -11,11 +11,13 @@ public interface TokenService {
 
     String resolveToken(HttpServletRequest request);
 
+    TokenClaims verifyToken(String token);
+
     Long getIdByToken(String token);
 
     boolean validateToken(String token);
 
-    Authentication getAuthentication(String token);
+    Authentication getAuthentication(TokenClaims claims);
 
-    User getUserByToken(String token);
+    Authentication getAuthentication(String token);
 }
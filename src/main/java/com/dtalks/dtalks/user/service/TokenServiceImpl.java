@@ -2,10 +2,14 @@ package com.dtalks.dtalks.user.service;
 
 import com.dtalks.dtalks.exception.ErrorCode;
 import com.dtalks.dtalks.exception.exception.CustomException;
-import com.dtalks.dtalks.user.entity.User;
+import com.dtalks.dtalks.user.dto.TokenClaims;
+import com.dtalks.dtalks.user.dto.UserPrincipal;
 import com.dtalks.dtalks.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import jakarta.annotation.PostConstruct;
@@ -23,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -31,8 +36,15 @@ public class TokenServiceImpl implements TokenService {
 
     private final Logger LOGGER = LoggerFactory.getLogger(UserServiceImpl.class);
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
     @Value("${springboot.jwt.secret}")
     private String secretKey;
+    @Value("${dtalks.security.token-cache.max-size:10000}")
+    private long tokenCacheMaxSize;
+
+    private JwtParser jwtParser;
+    // 검증이 끝난 토큰 → claims. 항목은 토큰 만료 시각에 함께 만료된다.
+    private Cache<String, TokenClaims> verifiedTokens;
 
     private final long accessTokenValidMillisecond = 1000L * 60 * 60 * 3;
     private final long refreshTokenValidMillisecond = 1000L * 60 * 60 * 24;
@@ -41,6 +53,27 @@ public class TokenServiceImpl implements TokenService {
     protected void init() {
         // secretKey 를 base64 형식으로 인코딩
         secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(tokenCacheMaxSize)
+                .expireAfter(new Expiry<String, TokenClaims>() {
+                    @Override
+                    public long expireAfterCreate(String token, TokenClaims claims, long currentTime) {
+                        long remainMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, TokenClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, TokenClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
     @Override
     public String createAccessToken(Long id) {
@@ -78,34 +111,52 @@ public class TokenServiceImpl implements TokenService {
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public boolean validateToken(String token) {
+    public TokenClaims verifyToken(String token) {
+        if (token == null) {
+            throw new CustomException(ErrorCode.VALIDATION_ERROR, "유효하지 않은 토큰입니다.");
+        }
+        TokenClaims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        TokenClaims claims;
         try {
-            Jws<Claims> claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
-            return !claims.getBody().getExpiration().before(new Date());
+            claims = TokenClaims.from(jwtParser.parseClaimsJws(token).getBody());
         }
         catch (Exception e) {
             throw new CustomException(ErrorCode.VALIDATION_ERROR, "유효하지 않은 토큰입니다.");
         }
+        verifiedTokens.put(token, claims);
+        return claims;
+    }
+
+    @Override
+    public boolean validateToken(String token) {
+        return !verifyToken(token).getExpiration().before(new Date());
     }
 
     @Override
     @Transactional(readOnly = true)
     public Authentication getAuthentication(String token) {
-        User user = userRepository.findById(this.getIdByToken(token)).orElseThrow(
-                () -> new CustomException(ErrorCode.VALIDATION_ERROR, "존재하지 않는 사용자입니다."));
-
-        return new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities());
+        return getAuthentication(verifyToken(token));
     }
 
     @Override
-    public Long getIdByToken(String token) {
-        String info = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody().getSubject();
-        return Long.parseLong(info);
+    @Transactional(readOnly = true)
+    public Authentication getAuthentication(TokenClaims claims) {
+        UserPrincipal principal = userPrincipalCache.get(claims.getUserId(),
+                id -> userRepository.findById(id).map(UserPrincipal::from));
+        if (principal == null) {
+            throw new CustomException(ErrorCode.VALIDATION_ERROR, "존재하지 않는 사용자입니다.");
+        }
+
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
     }
 
     @Override
-    public User getUserByToken(String token) {
-        return userRepository.findById(getIdByToken(token)).get();
+    public Long getIdByToken(String token) {
+        return verifyToken(token).getUserId();
     }
+
 }
@@ -12,6 +12,7 @@ import com.dtalks.dtalks.qna.question.entity.Question;
 import com.dtalks.dtalks.qna.question.repository.QuestionRepository;
 import com.dtalks.dtalks.studyroom.repository.StudyRoomUserRepository;
 import com.dtalks.dtalks.user.dto.RecentActivityDto;
+import com.dtalks.dtalks.user.dto.UserPrincipal;
 import com.dtalks.dtalks.user.entity.User;
 import com.dtalks.dtalks.user.enums.ActivityType;
 import com.dtalks.dtalks.user.repository.UserRepository;
@@ -43,8 +44,7 @@ public class UserActivityServiceImpl implements UserActivityService {
     public Page<RecentActivityDto> getRecentActivities(UserDetails userDetails, String nickname, Pageable pageable) {
         User user = userRepository.findByNickname(nickname).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_ERROR, "존재하지 않는 사용자입니다."));
         if (user.getIsPrivate()) {
-            User currentUser = (User) userDetails;
-            if (userDetails == null || !currentUser.getNickname().equals(nickname)) {
+            if (!(userDetails instanceof UserPrincipal currentUser) || !nickname.equals(currentUser.getNickname())) {
                 throw new CustomException(ErrorCode.ACCEPTED_BUT_IMPOSSIBLE, "비공개 설정으로 사용자의 최근활동 조회가 불가능합니다.");
             }
         }
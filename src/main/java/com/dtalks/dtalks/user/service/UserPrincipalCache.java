@@ -0,0 +1,47 @@
+package com.dtalks.dtalks.user.service;
+
+import com.dtalks.dtalks.base.component.AfterCommit;
+import com.dtalks.dtalks.user.dto.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 사용자 id 로 UserPrincipal 을 캐싱한다. 크기와 TTL 이 제한되어 있어
+ * 다른 서버에서 바뀐 상태(정지 등)도 TTL 이 지나면 반영된다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final Cache<Long, UserPrincipal> cache;
+
+    public UserPrincipalCache(@Value("${dtalks.security.principal-cache.max-size:10000}") long maxSize,
+                              @Value("${dtalks.security.principal-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public UserPrincipal get(Long userId, Function<Long, Optional<UserPrincipal>> loader) {
+        UserPrincipal principal = cache.getIfPresent(userId);
+        if (principal != null) {
+            return principal;
+        }
+        Optional<UserPrincipal> loaded = loader.apply(userId);
+        loaded.ifPresent(p -> cache.put(userId, p));
+        return loaded.orElse(null);
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 제거해, 커밋 전의 값으로 다시 채워지는 것을 막는다.
+     */
+    public void evict(Long userId) {
+        AfterCommit.run(() -> cache.invalidate(userId));
+    }
+}
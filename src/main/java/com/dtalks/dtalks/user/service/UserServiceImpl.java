@@ -10,6 +10,7 @@ import com.dtalks.dtalks.exception.exception.CustomException;
 import com.dtalks.dtalks.fcm.FCMTokenManager;
 import com.dtalks.dtalks.notification.entity.Notification;
 import com.dtalks.dtalks.notification.repository.NotificationRepository;
+import com.dtalks.dtalks.notification.service.UnreadNotificationCounter;
 import com.dtalks.dtalks.report.entity.ReportedUser;
 import com.dtalks.dtalks.report.repository.ReportedUserRepository;
 import com.dtalks.dtalks.user.Util.SecurityUtil;
@@ -50,15 +51,18 @@ public class UserServiceImpl implements UserService {
     private final String imagePath =  "profiles";
 
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
     private final ReportedUserRepository reportedUserRepository;
 
     private final RefreshTokenRepository refreshTokenRepository;
     private final FCMTokenManager fcmTokenManager;
+    private final UserPrincipalCache userPrincipalCache;
+    private final CurrentUserProvider currentUserProvider;
 
     @Override
     @Transactional
     public SignInResponseDto oAuthSignUp(OAuthSignUpDto oAuthSignUpDto) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         Optional<Document> optionalImage = documentRepository.findById(oAuthSignUpDto.getProfileImageId());
 
         if(!optionalImage.isEmpty()) {
@@ -73,6 +77,7 @@ public class UserServiceImpl implements UserService {
         user.setIsPrivate(false);
 
         User savedUser = userRepository.save(user);
+        userPrincipalCache.evict(savedUser.getId());
 
         SignInResponseDto signInResponseDto = new SignInResponseDto();
         signInResponseDto.setAccessToken(tokenService.createAccessToken(savedUser.getId()));
@@ -221,7 +226,7 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public UserResponseDto updateUserid(UseridDto useridDto) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
 
         if(user.getRegistrationId() != null) {
             throw new CustomException(ErrorCode.VALIDATION_ERROR, "구글 로그인 유저는 아이디 변경이 불가능합니다.");
@@ -229,6 +234,7 @@ public class UserServiceImpl implements UserService {
 
         userRepository.findByUserid(useridDto.getUserid()).orElseThrow(() -> new CustomException(ErrorCode.VALIDATION_ERROR, "이미 존재하는 아이디입니다."));
         User savedUser = userRepository.save(user);
+        userPrincipalCache.evict(savedUser.getId());
 
         return UserResponseDto.toDto(savedUser);
     }
@@ -236,11 +242,12 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public UserResponseDto updateNickname(UserNicknameDto userNicknameDto) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         userRepository.findByNickname(userNicknameDto.getNickname()).orElseThrow(() -> new CustomException(ErrorCode.VALIDATION_ERROR, "이미 존재하는 닉네임입니다."));
 
         user.setNickname(userNicknameDto.getNickname());
         User savedUser = userRepository.save(user);
+        userPrincipalCache.evict(savedUser.getId());
 
         return UserResponseDto.toDto(savedUser);
     }
@@ -248,7 +255,7 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public void updatePassword(UserPasswordDto userPasswordDto) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
 
         if(user.getRegistrationId() != null) {
             throw new CustomException(ErrorCode.VALIDATION_ERROR, "구글 로그인 유저는 아이디 변경이 불가능합니다.");
@@ -269,7 +276,7 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public UserResponseDto updateEmail(UserEmailDto userEmailDto) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
 
         if(user.getRegistrationId() != null) {
             throw new CustomException(ErrorCode.VALIDATION_ERROR, "구글 로그인 유저는 아이디 변경이 불가능합니다.");
@@ -277,6 +284,7 @@ public class UserServiceImpl implements UserService {
 
         user.setEmail(userEmailDto.getEmail());
         User savedUser = userRepository.save(user);
+        userPrincipalCache.evict(savedUser.getId());
 
         return UserResponseDto.toDto(savedUser);
     }
@@ -289,6 +297,7 @@ public class UserServiceImpl implements UserService {
         user.setDescription(userProfileRequestDto.getDescription());
         user.setSkills(userProfileRequestDto.getSkills());
         User savedUser = userRepository.save(user);
+        userPrincipalCache.evict(savedUser.getId());
 
         UserResponseDto userResponseDto = UserResponseDto.toDto(savedUser);
 
@@ -298,7 +307,7 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public DocumentResponseDto updateUserProfileImage(MultipartFile multipartFile) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         Document document = user.getProfileImage();
 
         if(document != null) {
@@ -309,6 +318,7 @@ public class UserServiceImpl implements UserService {
         Document savedDocument = createProfileImage(multipartFile);
         user.setProfileImage(savedDocument);
         userRepository.save(user);
+        userPrincipalCache.evict(user.getId());
         return DocumentResponseDto.toDto(savedDocument);
     }
 
@@ -322,7 +332,7 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public DocumentResponseDto getUserProfileImage() {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         Document document = user.getProfileImage();
         if(document == null) {
             return DocumentResponseDto.builder().build();
@@ -345,6 +355,7 @@ public class UserServiceImpl implements UserService {
     public void updatePrivate(boolean status) {
         User user = userRepository.findByUserid(SecurityUtil.getCurrentUserId()).get();
         user.setIsPrivate(status);
+        userPrincipalCache.evict(user.getId());
     }
 
     @Override
@@ -381,7 +392,7 @@ public class UserServiceImpl implements UserService {
             throw new CustomException(ErrorCode.VALIDATION_ERROR, "인증되지 않은 토큰입니다.");
         }
 
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         user.setPassword(passwordEncoder.encode(userPasswordFindDto.getNewPassword()));
         userRepository.save(user);
     }
@@ -389,7 +400,7 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public void quitUser(UserSimplePasswordDto passwordDto) {
-        User user = SecurityUtil.getUser();
+        User user = currentUserProvider.getUser();
         if(!passwordEncoder.matches(passwordDto.getPassword(), user.getPassword()))
             throw new CustomException(ErrorCode.VALIDATION_ERROR, "비밀번호가 올바르지 않습니다.");
         user.setEmail(null);
@@ -403,12 +414,14 @@ public class UserServiceImpl implements UserService {
         for (Notification noti : notificationList) {
             notificationRepository.delete(noti);
         }
+        unreadNotificationCounter.evict(user.getId());
         List<ReportedUser> reportedList = reportedUserRepository.findByReportedUserId(user.getId());
         for (ReportedUser reportedUser : reportedList) {
             reportedUserRepository.delete(reportedUser);
         }
 
         userRepository.save(user);
+        userPrincipalCache.evict(user.getId());
     }
 
     @Transactional(readOnly = true)
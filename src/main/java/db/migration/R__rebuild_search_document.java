@@ -0,0 +1,45 @@
+package db.migration;
+
+import com.dtalks.dtalks.search.enums.SearchTarget;
+import com.dtalks.dtalks.search.service.SearchIndexServiceImpl;
+import com.dtalks.dtalks.search.service.SearchTokenizer;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.Map;
+
+/**
+ * 기존 글로 search_document 색인을 다시 만든다.
+ * checksum 이 SearchTokenizer.VERSION 이므로 색인 형식이 바뀌어 VERSION 을 올리면 다시 실행된다.
+ * 새 DB 라 원본 테이블이 아직 없으면 색인할 글도 없으므로 건너뛴다.
+ */
+@Slf4j
+public class R__rebuild_search_document extends BaseJavaMigration {
+
+    private static final Map<SearchTarget, String> SOURCE_TABLES = Map.of(
+            SearchTarget.POST, "post",
+            SearchTarget.QUESTION, "question",
+            SearchTarget.STUDY_ROOM, "study_room"
+    );
+
+    @Override
+    public Integer getChecksum() {
+        return SearchTokenizer.VERSION;
+    }
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        SearchIndexServiceImpl searchIndexService = new SearchIndexServiceImpl(jdbcTemplate);
+
+        for (SearchTarget target : SearchTarget.values()) {
+            Boolean exists = jdbcTemplate.queryForObject("select to_regclass(?) is not null", Boolean.class, SOURCE_TABLES.get(target));
+            if (Boolean.TRUE.equals(exists)) {
+                log.info("[SearchIndex] - {} 색인 생성: {}건", target, searchIndexService.rebuild(target));
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+-- IDENTITY 로 저장된 기존 채팅이 있으면 시퀀스가 기존 최대 id 뒤에서 시작하도록 맞춘다.
+-- 시퀀스를 되돌리지 않으므로 여러 번 실행해도 안전하다. 새 DB 는 채팅이 없어 건너뛴다.
+DO $$
+BEGIN
+    IF to_regclass('chat_message') IS NOT NULL THEN
+        PERFORM setval('chat_message_seq', greatest(
+                (SELECT coalesce(max(id), 0) FROM chat_message),
+                (SELECT last_value FROM chat_message_seq)));
+    END IF;
+END $$;
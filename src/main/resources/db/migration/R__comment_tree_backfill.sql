@@ -0,0 +1,20 @@
+-- root_id / depth 컬럼이 추가되기 전에 작성된 답글을 재귀 CTE 로 채운다.
+-- 기존 DB 에서는 JPA 보다 먼저 실행되므로 컬럼을 여기서 추가한다. 새 DB 는 채울 답글이 없어 건너뛴다.
+-- 여러 번 실행해도 결과가 같으므로, 내용을 고치면 repeatable 마이그레이션으로 다시 실행된다.
+DO $$
+BEGIN
+    IF to_regclass('comment') IS NOT NULL THEN
+        ALTER TABLE comment ADD COLUMN IF NOT EXISTS root_id bigint;
+        ALTER TABLE comment ADD COLUMN IF NOT EXISTS depth integer NOT NULL DEFAULT 0;
+
+        WITH RECURSIVE tree (id, root_id, depth) AS (
+            SELECT id, id, 0 FROM comment WHERE parent_id IS NULL
+            UNION ALL
+            SELECT c.id, t.root_id, t.depth + 1 FROM comment c JOIN tree t ON c.parent_id = t.id
+        )
+        UPDATE comment c SET root_id = t.root_id, depth = t.depth
+        FROM tree t
+        WHERE c.id = t.id AND c.parent_id IS NOT NULL
+          AND (c.root_id IS DISTINCT FROM t.root_id OR c.depth IS DISTINCT FROM t.depth);
+    END IF;
+END $$;
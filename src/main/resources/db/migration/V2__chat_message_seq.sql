@@ -0,0 +1,2 @@
+-- IDENTITY 에서 시퀀스로 바뀐 chat_message 의 id 시퀀스. 기존 최대 id 맞추기는 R__chat_message_seq_align 에서 한다.
+CREATE SEQUENCE IF NOT EXISTS chat_message_seq START WITH 1 INCREMENT BY 1;
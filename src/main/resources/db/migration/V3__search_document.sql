@@ -0,0 +1,9 @@
+-- 게시글/질문글/스터디룸 검색 색인. JPA 엔티티가 아니므로 여기서 만든다.
+CREATE TABLE IF NOT EXISTS search_document (
+    target_type varchar(20) NOT NULL,
+    target_id   bigint      NOT NULL,
+    document    tsvector    NOT NULL,
+    PRIMARY KEY (target_type, target_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_search_document_document ON search_document USING gin (document);
@@ -0,0 +1,3 @@
+-- 알림 목록은 id 커서로 내림차순 조회하므로 create_date 대신 id 로 인덱스를 바꾼다.
+-- 새 인덱스(idx_notification_receiver_status_id)는 Notification 엔티티의 @Index 로 JPA 가 만든다.
+DROP INDEX IF EXISTS idx_notification_receiver_status_create_date;
@@ -0,0 +1,121 @@
+package com.dtalks.dtalks.base.component;
+
+import com.dtalks.dtalks.base.dto.UploadedFile;
+import com.dtalks.dtalks.exception.exception.CustomException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AttachmentUploaderTest {
+
+    private final S3Uploader s3Uploader = mock(S3Uploader.class);
+    // 업로드를 호출한 스레드에서 바로 실행한다.
+    private final AttachmentUploader attachmentUploader = new AttachmentUploader(s3Uploader, Runnable::run,
+            new TransactionTemplate(new NoOpTransactionManager()));
+
+    @Test
+    void 하나라도_실패하면_올라간_파일을_지우고_예외를_던진다() {
+        when(s3Uploader.fileUpload(any(), startsWith("post/"))).thenAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(0);
+            if (file.getOriginalFilename().equals("broken.png")) {
+                throw new IllegalStateException("s3 down");
+            }
+            return "https://s3/" + invocation.getArgument(1);
+        });
+
+        assertThatThrownBy(() -> attachmentUploader.uploadAll(List.of(image("a.png"), image("broken.png"), image("b.jpg")), "post"))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(s3Uploader).deleteFile(argThat(path -> path.endsWith("a.png")));
+        verify(s3Uploader).deleteFile(argThat(path -> path.endsWith("b.jpg")));
+        verify(s3Uploader, never()).deleteFile(argThat(path -> path.endsWith("broken.png")));
+    }
+
+    @Test
+    void 형식이_잘못된_파일이_있으면_아무것도_올리지_않는다() {
+        assertThatThrownBy(() -> attachmentUploader.uploadAll(List.of(image("a.png"), image("script.exe")), "post"))
+                .isInstanceOf(CustomException.class);
+
+        verify(s3Uploader, never()).fileUpload(any(), anyString());
+    }
+
+    @Test
+    void 트랜잭션이_롤백되면_올린_파일을_지운다() {
+        List<UploadedFile> uploadedFiles = List.of(new UploadedFile("a.png", "post/a.png", "https://s3/post/a.png"));
+
+        assertThatThrownBy(() -> attachmentUploader.executeInTransaction(uploadedFiles, status -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        verify(s3Uploader).deleteFile("post/a.png");
+    }
+
+    @Test
+    void 커밋된_뒤의_예외로는_파일을_지우지_않는다() {
+        List<UploadedFile> uploadedFiles = List.of(new UploadedFile("a.png", "post/a.png", "https://s3/post/a.png"));
+
+        assertThatThrownBy(() -> attachmentUploader.executeInTransaction(uploadedFiles, status -> {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    throw new IllegalStateException("after commit");
+                }
+            });
+            return 1L;
+        })).isInstanceOf(IllegalStateException.class);
+
+        verify(s3Uploader, never()).deleteFile(anyString());
+    }
+
+    @Test
+    void 커밋되면_결과를_돌려준다() {
+        List<UploadedFile> uploadedFiles = List.of(new UploadedFile("a.png", "post/a.png", "https://s3/post/a.png"));
+
+        assertThat(attachmentUploader.executeInTransaction(uploadedFiles, status -> 1L)).isEqualTo(1L);
+        verify(s3Uploader, never()).deleteFile(anyString());
+    }
+
+    private static MockMultipartFile image(String name) {
+        return new MockMultipartFile("files", name, "image/png", new byte[]{1, 2, 3});
+    }
+
+    // 트랜잭션 동기화(afterCommit, afterCompletion)만 동작하는 트랜잭션 매니저
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.dtalks.dtalks.base.component;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ViewCountBufferTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ViewCountBuffer viewCountBuffer = new ViewCountBuffer(jdbcTemplate);
+
+    @Test
+    void 누적된_조회수를_한_번의_배치로_반영한다() {
+        viewCountBuffer.increasePostViewCount(1L);
+        viewCountBuffer.increasePostViewCount(1L);
+        viewCountBuffer.increasePostViewCount(2L);
+        viewCountBuffer.increaseQuestionViewCount(3L);
+
+        viewCountBuffer.flush();
+
+        assertThat(rows(captureBatch("update post", 1))).containsExactlyInAnyOrder("2:1", "1:2");
+        assertThat(rows(captureBatch("update question", 1))).containsExactly("1:3");
+        assertThat(viewCountBuffer.pendingPostViewCount(1L)).isZero();
+    }
+
+    @Test
+    void 반영에_실패하면_다음_주기에_다시_반영한다() {
+        when(jdbcTemplate.batchUpdate(startsWith("update post"), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("db down"))
+                .thenReturn(new int[]{1});
+
+        viewCountBuffer.increasePostViewCount(1L);
+        viewCountBuffer.increasePostViewCount(1L);
+        viewCountBuffer.flush();
+
+        assertThat(viewCountBuffer.pendingPostViewCount(1L)).isEqualTo(2);
+
+        viewCountBuffer.increasePostViewCount(1L);
+        viewCountBuffer.flush();
+
+        List<List<Object[]>> batches = captureBatches("update post", 2);
+        assertThat(rows(batches.get(1))).containsExactly("3:1");
+        assertThat(viewCountBuffer.pendingPostViewCount(1L)).isZero();
+    }
+
+    @Test
+    void 조회가_없으면_반영하지_않는다() {
+        viewCountBuffer.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("update"), anyList());
+    }
+
+    private List<Object[]> captureBatch(String sqlPrefix, int calls) {
+        List<List<Object[]>> batches = captureBatches(sqlPrefix, calls);
+        return batches.get(batches.size() - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object[]>> captureBatches(String sqlPrefix, int calls) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(calls)).batchUpdate(startsWith(sqlPrefix), captor.capture());
+        return captor.getAllValues();
+    }
+
+    // "증가량:id" 형태로 바꿔 비교한다.
+    private static List<String> rows(List<Object[]> batch) {
+        return batch.stream().map(row -> row[0] + ":" + row[1]).toList();
+    }
+}
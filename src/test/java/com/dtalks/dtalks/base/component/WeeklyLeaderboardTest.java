@@ -0,0 +1,87 @@
+package com.dtalks.dtalks.base.component;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeeklyLeaderboardTest {
+
+    private final LocalDateTime now = LocalDateTime.now();
+    private final List<Object[]> rows = new ArrayList<>();
+    private final List<Long> deletedIds = new ArrayList<>();
+    private int entityLoads;
+
+    private final WeeklyLeaderboard<Item, String> leaderboard = new WeeklyLeaderboard<>(3, 1,
+            start -> rows, this::loadItems, Item::id, item -> "item-" + item.id());
+
+    @Test
+    void 추천수_내림차순_같으면_최신_id_순으로_상위_N개를_고른다() {
+        row(1L, now, 5);
+        row(2L, now, 7);
+        row(3L, now, 5);
+        row(4L, now, 1);
+        row(5L, now, 0);
+
+        leaderboard.resync();
+
+        assertThat(leaderboard.getTop()).containsExactly("item-2", "item-3", "item-1");
+    }
+
+    @Test
+    void 기간이_지난_글과_최소_추천수_미만인_글은_빠진다() {
+        leaderboard.updateRecommendCount(1L, now.minusDays(8), 10);
+        leaderboard.updateRecommendCount(2L, now, 0);
+        leaderboard.updateRecommendCount(3L, now, 2);
+
+        assertThat(leaderboard.getTop()).containsExactly("item-3");
+    }
+
+    @Test
+    void 상위_목록이_바뀔_때만_DTO_를_다시_만든다() {
+        leaderboard.updateRecommendCount(1L, now, 3);
+        leaderboard.updateRecommendCount(2L, now, 2);
+        leaderboard.updateRecommendCount(3L, now, 1);
+        assertThat(leaderboard.getTop()).containsExactly("item-1", "item-2", "item-3");
+        assertThat(leaderboard.getTop()).containsExactly("item-1", "item-2", "item-3");
+        assertThat(entityLoads).isEqualTo(1);
+
+        // 상위에 들지 못하는 글이 바뀌면 다시 읽지 않는다.
+        leaderboard.updateRecommendCount(4L, now, 0);
+        assertThat(leaderboard.getTop()).containsExactly("item-1", "item-2", "item-3");
+        assertThat(entityLoads).isEqualTo(1);
+
+        leaderboard.updateRecommendCount(4L, now, 5);
+        assertThat(leaderboard.getTop()).containsExactly("item-4", "item-1", "item-2");
+        assertThat(entityLoads).isEqualTo(2);
+    }
+
+    @Test
+    void 삭제된_글은_결과에서_빠진다() {
+        leaderboard.updateRecommendCount(1L, now, 3);
+        leaderboard.updateRecommendCount(2L, now, 2);
+        deletedIds.add(1L);
+
+        assertThat(leaderboard.getTop()).containsExactly("item-2");
+
+        deletedIds.clear();
+        leaderboard.remove(2L);
+        assertThat(leaderboard.getTop()).containsExactly("item-1");
+    }
+
+    private void row(Long id, LocalDateTime createDate, int recommendCount) {
+        rows.add(new Object[]{id, createDate, recommendCount});
+    }
+
+    private List<Item> loadItems(Collection<Long> ids) {
+        entityLoads++;
+        return ids.stream().filter(id -> !deletedIds.contains(id)).map(Item::new).toList();
+    }
+
+    private record Item(Long id) {
+    }
+}
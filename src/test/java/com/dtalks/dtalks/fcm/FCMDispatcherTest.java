@@ -0,0 +1,108 @@
+package com.dtalks.dtalks.fcm;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FCMDispatcherTest {
+
+    private final FCMSender fcmSender = mock(FCMSender.class);
+    private final FCMTokenManager fcmTokenManager = mock(FCMTokenManager.class);
+    // 백오프 0ms 로 재시도 푸시가 바로 다음 flush 에 나가게 한다.
+    private final FCMDispatcher dispatcher = new FCMDispatcher(fcmSender, fcmTokenManager, 100, 500, 1, 3, 0);
+
+    @Test
+    void 일시적인_실패는_같은_토큰으로_다시_보낸다() {
+        when(fcmTokenManager.getTokens(List.of(1L, 2L))).thenReturn(Arrays.asList("token-1", "token-2"));
+        when(fcmSender.send(anyList()))
+                .thenReturn(statuses(FCMSendStatus.SUCCESS, FCMSendStatus.RETRYABLE))
+                .thenReturn(statuses(FCMSendStatus.SUCCESS));
+
+        dispatcher.enqueue(1L, "body-1");
+        dispatcher.enqueue(2L, "body-2");
+        dispatcher.flush();
+        dispatcher.flush();
+
+        List<List<FCMPush>> batches = captureBatches(2);
+        assertThat(batches.get(1)).containsExactly(new FCMPush(2L, "body-2", "token-2", 1));
+        verify(fcmTokenManager, times(1)).getTokens(anyList());
+    }
+
+    @Test
+    void 재시도_횟수를_넘으면_버린다() {
+        when(fcmTokenManager.getTokens(List.of(1L))).thenReturn(Arrays.asList("token-1"));
+        when(fcmSender.send(anyList())).thenAnswer(invocation -> statuses(FCMSendStatus.RETRYABLE));
+
+        dispatcher.enqueue(1L, "body");
+        for (int i = 0; i < 5; i++) {
+            dispatcher.flush();
+        }
+
+        verify(fcmSender, times(3)).send(anyList());
+    }
+
+    @Test
+    void 발송_자체가_실패하면_묶음_전체를_다시_보낸다() {
+        when(fcmTokenManager.getTokens(List.of(1L, 2L))).thenReturn(Arrays.asList("token-1", "token-2"));
+        when(fcmSender.send(anyList()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("fcm down")))
+                .thenReturn(statuses(FCMSendStatus.SUCCESS, FCMSendStatus.SUCCESS));
+
+        dispatcher.enqueue(1L, "body-1");
+        dispatcher.enqueue(2L, "body-2");
+        dispatcher.flush();
+        dispatcher.flush();
+
+        assertThat(captureBatches(2).get(1)).extracting(FCMPush::userId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void 유효하지_않은_토큰은_삭제하고_다시_보내지_않는다() {
+        when(fcmTokenManager.getTokens(List.of(1L))).thenReturn(Arrays.asList("expired"));
+        when(fcmSender.send(anyList())).thenReturn(statuses(FCMSendStatus.INVALID_TOKEN));
+
+        dispatcher.enqueue(1L, "body");
+        dispatcher.flush();
+        dispatcher.flush();
+
+        verify(fcmTokenManager).deleteTokenIfMatches(1L, "expired");
+        verify(fcmSender, times(1)).send(anyList());
+    }
+
+    @Test
+    void 토큰이_없는_유저는_보내지_않는다() {
+        when(fcmTokenManager.getTokens(List.of(1L, 2L))).thenReturn(Arrays.asList(null, "token-2"));
+        when(fcmSender.send(anyList())).thenReturn(statuses(FCMSendStatus.SUCCESS));
+
+        dispatcher.enqueue(1L, "body-1");
+        dispatcher.enqueue(2L, "body-2");
+        dispatcher.flush();
+
+        assertThat(captureBatches(1).get(0)).containsExactly(new FCMPush(2L, "body-2", "token-2", 0));
+        verify(fcmTokenManager, never()).deleteTokenIfMatches(any(), any());
+    }
+
+    private static CompletableFuture<List<FCMSendStatus>> statuses(FCMSendStatus... statuses) {
+        return CompletableFuture.completedFuture(List.of(statuses));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<FCMPush>> captureBatches(int times) {
+        ArgumentCaptor<List<FCMPush>> captor = ArgumentCaptor.forClass(List.class);
+        verify(fcmSender, times(times)).send(captor.capture());
+        return new ArrayList<>(captor.getAllValues());
+    }
+}
@@ -0,0 +1,90 @@
+package com.dtalks.dtalks.news.crawler;
+
+import com.dtalks.dtalks.news.entity.News;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsPageFetcherTest {
+
+    private static final String ETAG = "\"v1\"";
+
+    private HttpServer server;
+    private final AtomicInteger bodyResponses = new AtomicInteger();
+    private NewsSource source;
+    private final NewsPageFetcher fetcher = new NewsPageFetcher(5000);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        byte[] body;
+        try (InputStream in = getClass().getResourceAsStream("/news/article-list.html")) {
+            body = in.readAllBytes();
+        }
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/news/articleList.html", exchange -> {
+            if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            bodyResponses.incrementAndGet();
+            exchange.getResponseHeaders().add("Content-Type", "text/html; charset=UTF-8");
+            exchange.getResponseHeaders().add("ETag", ETAG);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+        NewsSource bloter = NewsSource.BLOTER;
+        source = new NewsSource("fixture", baseUrl + "news/articleList.html", baseUrl,
+                bloter.itemSelector(), bloter.titleSelector(), bloter.contentSelector(), bloter.writerSelector(),
+                bloter.imageSelector(), bloter.dateSelector(), bloter.linkSelector());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 목록_페이지의_기사를_파싱한다() throws IOException {
+        NewsPage page = fetcher.fetch(source, null, null);
+
+        assertThat(page.isNotModified()).isFalse();
+        assertThat(page.etag()).isEqualTo(ETAG);
+
+        List<News> newsList = source.parse(page.document());
+        assertThat(newsList).hasSize(2);
+        News first = newsList.get(0);
+        assertThat(first.getTitle()).isEqualTo("첫 번째 기사");
+        assertThat(first.getContent()).isEqualTo("첫 번째 기사 요약");
+        assertThat(first.getWriter()).isEqualTo("홍길동 기자");
+        assertThat(first.getDate()).isEqualTo("2023-06-01 10:00");
+        assertThat(first.getImage()).isEqualTo("https://cdn.example.com/1001.jpg");
+        assertThat(first.getUrl()).isEqualTo(source.baseUrl() + "news/articleView.html?idxno=1001");
+    }
+
+    @Test
+    void 바뀌지_않은_페이지는_본문을_받지_않는다() throws IOException {
+        NewsPage first = fetcher.fetch(source, null, null);
+        NewsPage second = fetcher.fetch(source, first.etag(), first.lastModified());
+
+        assertThat(second.isNotModified()).isTrue();
+        assertThat(second.etag()).isEqualTo(ETAG);
+        assertThat(bodyResponses.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,101 @@
+package com.dtalks.dtalks.notification.service;
+
+import com.dtalks.dtalks.fcm.FCMService;
+import com.dtalks.dtalks.notification.entity.Notification;
+import com.dtalks.dtalks.notification.entity.NotificationOutbox;
+import com.dtalks.dtalks.notification.enums.NotificationType;
+import com.dtalks.dtalks.notification.repository.NotificationOutboxRepository;
+import com.dtalks.dtalks.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationOutboxRelayTest {
+
+    private final NotificationOutboxRepository outboxRepository = mock(NotificationOutboxRepository.class);
+    private final FCMService fcmService = mock(FCMService.class);
+    private final SseEmitters sseEmitters = mock(SseEmitters.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NotificationOutboxRelay relay = new NotificationOutboxRelay(outboxRepository, mock(UserRepository.class),
+            fcmService, sseEmitters, new NoOpTransactionManager(), meterRegistry, 1, 200, 2);
+
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+    }
+
+    @Test
+    void 계속_실패하는_행만_시도_횟수를_올리고_한도를_넘으면_버린다() {
+        NotificationOutbox healthy = outbox(1L, 10L);
+        NotificationOutbox poison = outbox(2L, 20L);
+        when(outboxRepository.lockBatch(anyInt())).thenReturn(List.of(healthy, poison)).thenReturn(List.of(poison));
+        when(outboxRepository.lockById(1L)).thenReturn(Optional.of(healthy));
+        when(outboxRepository.lockById(2L)).thenReturn(Optional.of(poison));
+        when(fcmService.sendMessage(eq(10L), any(), any(), any(), any(), any())).thenReturn(mock(Notification.class));
+        when(fcmService.sendMessage(eq(20L), any(), any(), any(), any(), any())).thenThrow(new IllegalStateException("broken row"));
+
+        drain();
+
+        verify(outboxRepository).delete(healthy);
+        verify(sseEmitters).send(eq(10L), any());
+        assertThat(poison.getAttempts()).isEqualTo(1);
+        verify(outboxRepository, never()).delete(poison);
+
+        drain();
+
+        assertThat(poison.getAttempts()).isEqualTo(2);
+        verify(outboxRepository).delete(poison);
+        assertThat(meterRegistry.counter("notification.outbox.dropped").count()).isEqualTo(1.0);
+    }
+
+    // poll 은 worker 스레드에서 돌기 때문에 같은 작업을 테스트 스레드에서 직접 실행한다.
+    private void drain() {
+        ReflectionTestUtils.invokeMethod(relay, "drain");
+    }
+
+    private static NotificationOutbox outbox(Long id, Long receiverId) {
+        NotificationOutbox outbox = BeanUtils.instantiateClass(NotificationOutbox.class);
+        ReflectionTestUtils.setField(outbox, "id", id);
+        ReflectionTestUtils.setField(outbox, "receiverId", receiverId);
+        ReflectionTestUtils.setField(outbox, "type", NotificationType.COMMENT);
+        return outbox;
+    }
+
+    // 트랜잭션 동기화(afterCommit)만 동작하는 트랜잭션 매니저
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
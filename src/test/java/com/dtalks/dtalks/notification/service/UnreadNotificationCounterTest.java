@@ -0,0 +1,130 @@
+package com.dtalks.dtalks.notification.service;
+
+import com.dtalks.dtalks.notification.enums.ReadStatus;
+import com.dtalks.dtalks.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 카운터의 Lua 스크립트를 실제 Redis 에서 확인한다. Docker 가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class UnreadNotificationCounterTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private UnreadNotificationCounter counter;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+        counter = new UnreadNotificationCounter(redisTemplate, notificationRepository, mock(SseEmitters.class));
+        ReflectionTestUtils.setField(counter, "reconcileIntervalMillis", 600000L);
+        ReflectionTestUtils.setField(counter, "fallbackTtlSeconds", 60L);
+    }
+
+    @Test
+    void 키가_없고_동기화도_안_됐으면_증가하지_않는다() {
+        counter.increment(1L);
+        assertThat(redisTemplate.hasKey("notification:unread:1")).isFalse();
+
+        redisTemplate.opsForValue().set("notification:unread:synced", "1");
+        counter.increment(1L);
+        counter.increment(1L);
+        assertThat(redisTemplate.opsForValue().get("notification:unread:1")).isEqualTo("2");
+    }
+
+    @Test
+    void 감소는_0_아래로_내려가지_않고_키가_없으면_건너뛴다() {
+        counter.decrement(1L, 3);
+        assertThat(redisTemplate.hasKey("notification:unread:1")).isFalse();
+
+        redisTemplate.opsForValue().set("notification:unread:1", "2");
+        counter.decrement(1L, 3);
+        assertThat(redisTemplate.opsForValue().get("notification:unread:1")).isEqualTo("0");
+    }
+
+    @Test
+    void DB_에서_읽은_값은_짧은_TTL_로만_채운다() {
+        when(notificationRepository.countByReceiverIdAndReadStatus(1L, ReadStatus.WAIT)).thenReturn(4L);
+
+        assertThat(counter.getCount(1L)).isEqualTo(4L);
+        assertThat(redisTemplate.opsForValue().get("notification:unread:1")).isEqualTo("4");
+        assertThat(redisTemplate.getExpire("notification:unread:1")).isBetween(1L, 60L);
+    }
+
+    @Test
+    void 동기화는_DB_값으로_맞추고_없는_유저의_키는_지운다() {
+        redisTemplate.opsForValue().set("notification:unread:1", "9");
+        redisTemplate.opsForValue().set("notification:unread:2", "3");
+        when(notificationRepository.countGroupByReceiver(ReadStatus.WAIT)).thenReturn(rows(1L, 5L, 3L, 2L));
+
+        counter.reconcile();
+
+        assertThat(redisTemplate.opsForValue().get("notification:unread:1")).isEqualTo("5");
+        assertThat(redisTemplate.hasKey("notification:unread:2")).isFalse();
+        assertThat(redisTemplate.opsForValue().get("notification:unread:3")).isEqualTo("2");
+        assertThat(redisTemplate.hasKey("notification:unread:synced")).isTrue();
+    }
+
+    @Test
+    void 동기화_중_바뀐_키는_덮어쓰지_않는다() {
+        redisTemplate.opsForValue().set("notification:unread:1", "1");
+        redisTemplate.opsForValue().set("notification:unread:synced", "1");
+        when(notificationRepository.countGroupByReceiver(any())).thenAnswer(invocation -> {
+            // DB 를 읽는 동안 다른 요청이 알림을 저장하고 카운터를 올린다.
+            counter.increment(1L);
+            counter.increment(2L);
+            return rows(1L, 1L);
+        });
+
+        counter.reconcile();
+
+        assertThat(redisTemplate.opsForValue().get("notification:unread:1")).isEqualTo("2");
+        assertThat(redisTemplate.opsForValue().get("notification:unread:2")).isEqualTo("1");
+    }
+
+    private static List<Object[]> rows(long... userIdAndCounts) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < userIdAndCounts.length; i += 2) {
+            rows.add(new Object[]{userIdAndCounts[i], userIdAndCounts[i + 1]});
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,39 @@
+package com.dtalks.dtalks.search.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTokenizerTest {
+
+    @Test
+    void 덩어리와_제목_본문_사이의_위치를_띄운다() {
+        String document = SearchTokenizer.toDocument("Java 스프링", "<p>ab</p>");
+
+        assertThat(document).isEqualTo("'ja':1A 'av':2A 'va':3A 'a':4A '스프':6A '프링':7A '링':8A 'ab':12 'b':13");
+    }
+
+    @Test
+    void 덩어리의_마지막_글자도_한_글자_검색으로_찾을_수_있다() {
+        String document = SearchTokenizer.toDocument("스프링", null);
+
+        assertThat(SearchTokenizer.toQuery("링")).isEqualTo("'링':*");
+        assertThat(document).contains("'링':3A");
+    }
+
+    @Test
+    void 검색어는_2gram_구문으로_만든다() {
+        assertThat(SearchTokenizer.toQuery("스프링 부트")).isEqualTo("('스프' <-> '프링') & ('부트')");
+    }
+
+    @Test
+    void 한_글자_검색어는_접두어로_찾는다() {
+        assertThat(SearchTokenizer.toQuery("A")).isEqualTo("'a':*");
+    }
+
+    @Test
+    void 검색할_글자가_없으면_null() {
+        assertThat(SearchTokenizer.toQuery("!! ?")).isNull();
+        assertThat(SearchTokenizer.toQuery(null)).isNull();
+    }
+}